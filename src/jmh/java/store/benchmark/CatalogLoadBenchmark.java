@@ -0,0 +1,40 @@
+package store.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.FileLoader;
+import store.domain.product.Product;
+
+// 파일 크기와 코어 수에 따른 상품 파일 적재 시간 변화를 본다: ./gradlew jmh -PjmhIncludes=CatalogLoadBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CatalogLoadBenchmark {
+    @Param({"10000", "1000000"})
+    private int productCount;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int parallelism;
+
+    private Path productsFile;
+
+    @Setup
+    public void writeCatalog() throws IOException {
+        productsFile = SyntheticCatalog.writeProducts(productCount, 42L);
+    }
+
+    @Benchmark
+    public List<Product> loadProducts() {
+        return FileLoader.loadProducts(productsFile, parallelism);
+    }
+}
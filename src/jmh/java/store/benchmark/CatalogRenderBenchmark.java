@@ -0,0 +1,49 @@
+package store.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.product.Product;
+import store.domain.product.Products;
+
+// 재고 안내 목록 출력 비용: ./gradlew jmh -PjmhIncludes=CatalogRenderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CatalogRenderBenchmark {
+    private static final int MAX_QUANTITY = 50;
+
+    @Param({"100", "1000", "10000"})
+    private int productCount;
+
+    private List<Product> productList;
+    private Products products;
+    private int nextProduct;
+
+    @Setup
+    public void createCatalog() {
+        productList = SyntheticCatalog.createProducts(productCount, 42L, MAX_QUANTITY);
+        products = new Products(productList);
+    }
+
+    // 재고가 그대로면 캐시한 목록을 돌려준다
+    @Benchmark
+    public List<String> describeAllProducts() {
+        return products.describeAllProducts();
+    }
+
+    // 판매 한 건으로 상품 하나의 재고가 바뀐 뒤의 목록
+    @Benchmark
+    public List<String> describeAfterStockChange() {
+        productList.get(nextProduct).increaseQuantity(1);
+        nextProduct = (nextProduct + 1) % productList.size();
+        return products.describeAllProducts();
+    }
+}
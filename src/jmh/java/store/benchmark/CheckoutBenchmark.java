@@ -0,0 +1,106 @@
+package store.benchmark;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.order.BatchReceipt;
+import store.domain.order.CheckoutResult;
+import store.domain.order.OrderOutcome;
+import store.domain.order.OrderRequest;
+import store.domain.product.Products;
+import store.domain.receipt.Receipt;
+import store.service.CheckoutEngine;
+import store.service.CustomerPolicy;
+import store.service.OrderService;
+import store.service.PromotionService;
+
+// 주문 검증과 결제 한 건의 비용: ./gradlew jmh -PjmhIncludes=CheckoutBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CheckoutBenchmark {
+    private static final int ORDER_COUNT = 1024;
+    private static final int CHECKOUT_STOCK = 1_000_000_000;
+    private static final Duration HOLD_TIME = Duration.ofMinutes(5);
+
+    @Param({"1000", "100000"})
+    private int productCount;
+
+    @Param({"1", "5"})
+    private int linesPerOrder;
+
+    private List<Map<String, Integer>> orders;
+    private List<OrderRequest> batch;
+    private OrderService orderService;
+    private CheckoutEngine checkoutEngine;
+    private int next;
+
+    @Setup
+    public void createOrders() {
+        orders = SyntheticCatalog.createOrders(ORDER_COUNT, productCount, linesPerOrder, 7L);
+        batch = orders.stream()
+                .map(order -> new OrderRequest(order, true))
+                .toList();
+    }
+
+    // 반복마다 재고를 새로 채워 측정 중에 재고가 바닥나지 않게 한다
+    @Setup(Level.Iteration)
+    public void restock() {
+        Products products = new Products(SyntheticCatalog.createProducts(productCount, 42L, CHECKOUT_STOCK));
+        PromotionService promotionService = new PromotionService(SyntheticCatalog.createPromotions());
+        orderService = new OrderService(products, promotionService);
+        checkoutEngine = new CheckoutEngine(orderService, HOLD_TIME);
+    }
+
+    @Benchmark
+    public Receipt createOrder() {
+        return orderService.createOrder(nextOrder(), true);
+    }
+
+    // 콘솔 없이 증정 제안, 예약, 정가 구매 확인, 멤버십까지 거치는 전체 결제
+    @Benchmark
+    public CheckoutResult checkoutHeadless() {
+        return checkoutEngine.checkout(nextOrder(), CustomerPolicy.ALWAYS_ACCEPT);
+    }
+
+    @Benchmark
+    public Map<String, Integer> validateOrder() {
+        Map<String, Integer> order = nextOrder();
+        orderService.validateOrder(order);
+        return order;
+    }
+
+    // 아래 두 벤치마크는 같은 주문 묶음을 일괄 처리와 하나씩 처리로 비교한다 (주문 한 건당 시간으로 보고)
+    @Benchmark
+    @OperationsPerInvocation(ORDER_COUNT)
+    public BatchReceipt createOrdersInBatch() {
+        return orderService.createOrders(batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDER_COUNT)
+    public BatchReceipt createOrdersOneByOne() {
+        List<OrderOutcome> outcomes = new ArrayList<>(batch.size());
+        for (OrderRequest order : batch) {
+            outcomes.add(OrderOutcome.accepted(orderService.createOrder(order.items(), order.useMembership())));
+        }
+        return BatchReceipt.of(outcomes);
+    }
+
+    private Map<String, Integer> nextOrder() {
+        next = (next + 1) & (ORDER_COUNT - 1);
+        return orders.get(next);
+    }
+}
@@ -0,0 +1,56 @@
+package store.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.product.Product;
+import store.domain.product.Products;
+
+// 객체 카탈로그와 열 저장소 카탈로그의 전체 재고 집계 비용: ./gradlew jmh -PjmhIncludes=InventoryScanBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InventoryScanBenchmark {
+    private static final int MAX_QUANTITY = 50;
+    private static final int LOW_STOCK_THRESHOLD = 5;
+
+    @Param({"1000", "100000"})
+    private int productCount;
+
+    private Products products;
+    private Products columnarProducts;
+
+    @Setup
+    public void createCatalogs() {
+        List<Product> productList = SyntheticCatalog.createProducts(productCount, 42L, MAX_QUANTITY);
+        products = new Products(productList);
+        columnarProducts = Products.columnar(productList);
+    }
+
+    @Benchmark
+    public long totalQuantity() {
+        return products.totalQuantity();
+    }
+
+    @Benchmark
+    public long totalQuantityColumnar() {
+        return columnarProducts.totalQuantity();
+    }
+
+    @Benchmark
+    public int countLowStock() {
+        return products.countQuantityBelow(LOW_STOCK_THRESHOLD);
+    }
+
+    @Benchmark
+    public int countLowStockColumnar() {
+        return columnarProducts.countQuantityBelow(LOW_STOCK_THRESHOLD);
+    }
+}
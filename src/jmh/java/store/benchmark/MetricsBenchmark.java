@@ -0,0 +1,37 @@
+package store.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import store.metrics.EventCounter;
+import store.metrics.LatencyTimer;
+import store.metrics.MetricsRegistry;
+
+// 지표를 켜고 끈 타이머/횟수 한 번의 비용: ./gradlew jmh -PjmhIncludes=MetricsBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class MetricsBenchmark {
+    private final LatencyTimer disabledTimer = MetricsRegistry.disabled().timer("order.create");
+    private final EventCounter disabledCounter = MetricsRegistry.disabled().counter("order.rejected");
+    private final LatencyTimer enabledTimer = MetricsRegistry.enabled().timer("order.create");
+    private final EventCounter enabledCounter = MetricsRegistry.enabled().counter("order.rejected");
+
+    @Benchmark
+    public void disabled() {
+        disabledTimer.stop(disabledTimer.start());
+        disabledCounter.increment();
+    }
+
+    @Benchmark
+    public void enabled() {
+        enabledTimer.stop(enabledTimer.start());
+        enabledCounter.increment();
+    }
+}
@@ -0,0 +1,62 @@
+package store.benchmark;
+
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.order.OrderLines;
+import store.domain.product.Products;
+import store.view.OrderInputParser;
+
+// 주문 입력 파싱의 처리량과 할당량(gc.alloc.rate.norm): ./gradlew jmh -PjmhIncludes=OrderParseBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderParseBenchmark {
+    private static final int PRODUCT_COUNT = 1000;
+    private static final int MAX_QUANTITY = 50;
+
+    @Param({"1", "5", "20"})
+    private int lineCount;
+
+    private String input;
+    private OrderInputParser parser;
+
+    @Setup
+    public void createInput() {
+        Random random = new Random(42L);
+        StringJoiner items = new StringJoiner(",");
+        for (int i = 0; i < lineCount; i++) {
+            items.add("[" + SyntheticCatalog.productName(random.nextInt(PRODUCT_COUNT)) + "-"
+                    + random.nextInt(1, 10) + "]");
+        }
+        input = items.toString();
+        parser = new OrderInputParser(new Products(SyntheticCatalog.createProducts(PRODUCT_COUNT, 42L, MAX_QUANTITY)));
+    }
+
+    @Benchmark
+    public OrderLines parse() {
+        return parser.parse(input);
+    }
+
+    // 커서 파서로 바꾸기 전의 replace/split 파싱 (입력 검증 포함)
+    @Benchmark
+    public OrderLines parseWithSplit() {
+        if (!input.startsWith("[") || !input.endsWith("]")) {
+            throw new IllegalArgumentException();
+        }
+        OrderLines.Builder orders = new OrderLines.Builder();
+        for (String item : input.replace("[", "").replace("]", "").split(",")) {
+            String[] parts = item.split("-");
+            orders.add(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return orders.build();
+    }
+}
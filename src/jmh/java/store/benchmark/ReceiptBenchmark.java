@@ -0,0 +1,58 @@
+package store.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptItem;
+import store.service.PromotionService;
+
+// 프로모션 할인, 영수증 합계와 최종 결제 금액 계산: ./gradlew jmh -PjmhIncludes=ReceiptBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReceiptBenchmark {
+    @Param({"5", "50"})
+    private int itemCount;
+
+    private List<ReceiptItem> items;
+    private PromotionService promotionService;
+    private Receipt receipt;
+
+    @Setup
+    public void createReceipt() {
+        Random random = new Random(42L);
+        items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new ReceiptItem(SyntheticCatalog.productName(i), random.nextInt(1, 10),
+                    (random.nextInt(90) + 1) * 100, random.nextInt(3)));
+        }
+        promotionService = new PromotionService(SyntheticCatalog.createPromotions());
+        receipt = new Receipt(items, promotionService.calculateTotalDiscount(items), true, promotionService);
+    }
+
+    @Benchmark
+    public long calculateTotalDiscount() {
+        return promotionService.calculateTotalDiscount(items);
+    }
+
+    // 합계는 영수증을 만들 때 한 번에 계산한다
+    @Benchmark
+    public Receipt createReceiptWithTotals() {
+        return new Receipt(items, promotionService.calculateTotalDiscount(items), true, promotionService);
+    }
+
+    @Benchmark
+    public long calculateFinalAmount() {
+        return receipt.calculateFinalAmount();
+    }
+}
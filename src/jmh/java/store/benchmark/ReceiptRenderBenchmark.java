@@ -0,0 +1,80 @@
+package store.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptItem;
+import store.service.PromotionService;
+import store.view.OutputView;
+
+// 영수증 출력의 처리량과 할당량(gc.alloc.rate.norm): ./gradlew jmh -PjmhIncludes=ReceiptRenderBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReceiptRenderBenchmark {
+    @Param({"5", "50"})
+    private int itemCount;
+
+    private Receipt receipt;
+    private PrintStream out;
+    private OutputView outputView;
+
+    @Setup
+    public void createReceipt() {
+        Random random = new Random(42L);
+        List<ReceiptItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new ReceiptItem(SyntheticCatalog.productName(i), random.nextInt(1, 10),
+                    (random.nextInt(90) + 1) * 100, random.nextInt(3)));
+        }
+        receipt = new Receipt(items, 1_000, true, new PromotionService(Map.of()));
+        out = new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8);
+        outputView = new OutputView(out);
+    }
+
+    @Benchmark
+    public void printReceipt() {
+        outputView.printReceipt(receipt);
+    }
+
+    // 버퍼 출력으로 바꾸기 전의 줄 단위 String.format/printf 출력
+    @Benchmark
+    public void printReceiptWithFormat() {
+        out.println();
+        out.println("==============W 편의점================");
+        out.println("상품명\t\t\t수량\t\t금액");
+        receipt.createOrderLines().forEach(out::println);
+        printGiftsWithFormat();
+        out.println("====================================");
+        out.printf("총구매액\t\t\t%d\t\t%,d\n", receipt.calculateTotalQuantity(), receipt.calculateTotalAmount());
+        out.printf("행사할인\t\t\t\t\t-%,d\n", receipt.promotionDiscountValue());
+        out.printf("멤버십할인\t\t\t\t-%,d\n", receipt.calculateMembershipDiscount());
+        out.printf("내실돈\t\t\t\t\t %,d\n", receipt.calculateFinalAmount());
+    }
+
+    private void printGiftsWithFormat() {
+        List<String> giftLines = receipt.itemsValue().stream()
+                .filter(ReceiptItem::hasGift)
+                .map(item -> String.format("%s\t\t\t%d", item.nameValue(), item.giftQuantityValue()))
+                .toList();
+        if (giftLines.isEmpty()) {
+            return;
+        }
+        out.println("=============증     정===============");
+        giftLines.forEach(out::println);
+    }
+}
@@ -0,0 +1,103 @@
+package store.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import store.domain.product.Product;
+import store.domain.promotion.Promotion;
+
+// products.md 형식의 합성 상품 파일을 만든다. 세 상품마다 하나는 프로모션 재고를 함께 가진다
+public final class SyntheticCatalog {
+    private static final String HEADER = "name,price,quantity,promotion";
+    private static final String[] PROMOTIONS = {"탄산2+1", "MD추천상품", "반짝할인"};
+    private static final int[][] PROMOTION_RULES = {{2, 1}, {1, 1}, {1, 1}};
+    private static final int PROMOTION_INTERVAL = 3;
+    private static final int MAX_FILE_QUANTITY = 50;
+    private static final LocalDate PROMOTION_START = LocalDate.of(2000, 1, 1);
+    private static final LocalDate PROMOTION_END = LocalDate.of(2999, 12, 31);
+
+    private SyntheticCatalog() {
+    }
+
+    public static Path writeProducts(int productCount, long seed) throws IOException {
+        Path file = Files.createTempFile("synthetic-products", ".md");
+        file.toFile().deleteOnExit();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Product product : createProducts(productCount, seed, MAX_FILE_QUANTITY)) {
+                writeRow(writer, product);
+            }
+        }
+        return file;
+    }
+
+    private static void writeRow(BufferedWriter writer, Product product) throws IOException {
+        writer.write(product.nameValue() + "," + product.priceValue() + "," + product.quantityValue() + ","
+                + product.promotionNameValue());
+        writer.newLine();
+    }
+
+    // 재고는 [0, maxQuantity) 범위에서 뽑는다. 결제 벤치마크는 재고가 바닥나지 않도록 큰 값을 넘긴다
+    public static List<Product> createProducts(int productCount, long seed, int maxQuantity) {
+        Random random = new Random(seed);
+        List<Product> products = new ArrayList<>(productCount + productCount / PROMOTION_INTERVAL + 1);
+        for (int i = 0; i < productCount; i++) {
+            addProduct(products, random, i, maxQuantity);
+        }
+        return products;
+    }
+
+    private static void addProduct(List<Product> products, Random random, int index, int maxQuantity) {
+        String name = productName(index);
+        int price = (random.nextInt(90) + 1) * 100;
+        if (index % PROMOTION_INTERVAL == 0) {
+            products.add(new Product(name, price, random.nextInt(maxQuantity), promotionName(index)));
+        }
+        products.add(new Product(name, price, random.nextInt(maxQuantity), "null"));
+    }
+
+    private static String promotionName(int index) {
+        return PROMOTIONS[(index / PROMOTION_INTERVAL) % PROMOTIONS.length];
+    }
+
+    // 벤치마크가 언제 돌든 프로모션이 진행 중이도록 기간을 넓게 잡는다
+    public static Map<String, Promotion> createPromotions() {
+        Map<String, Promotion> promotions = new HashMap<>();
+        for (int i = 0; i < PROMOTIONS.length; i++) {
+            promotions.put(PROMOTIONS[i], new Promotion(PROMOTIONS[i], PROMOTION_RULES[i][0], PROMOTION_RULES[i][1],
+                    PROMOTION_START, PROMOTION_END));
+        }
+        return promotions;
+    }
+
+    public static List<Map<String, Integer>> createOrders(int orderCount, int productCount, int linesPerOrder,
+                                                          long seed) {
+        Random random = new Random(seed);
+        List<Map<String, Integer>> orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(createOrder(random, productCount, linesPerOrder));
+        }
+        return orders;
+    }
+
+    private static Map<String, Integer> createOrder(Random random, int productCount, int linesPerOrder) {
+        Map<String, Integer> order = new HashMap<>();
+        while (order.size() < Math.min(linesPerOrder, productCount)) {
+            order.put(productName(random.nextInt(productCount)), random.nextInt(1, 10));
+        }
+        return order;
+    }
+
+    public static String productName(int index) {
+        return "상품" + index;
+    }
+}
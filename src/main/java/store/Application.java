@@ -1,192 +1,74 @@
 package store;
 
-import java.util.HashMap;
-import java.util.Map;
-import store.domain.product.Product;
-import store.domain.receipt.Receipt;
+import java.time.Duration;
+import store.domain.reservation.ReservationRegistry;
+import store.event.StockAlerts;
+import store.journal.StockJournal;
+import store.metrics.StoreMetrics;
+import store.server.SessionServer;
+import store.service.Catalog;
+import store.service.CatalogHolder;
+import store.service.CatalogReloader;
+import store.service.CheckoutEngine;
 import store.service.OrderService;
-import store.service.ProductService;
-import store.service.PromotionService;
+import store.service.SalesRecorder;
 import store.view.InputView;
 import store.view.OutputView;
 
 public class Application {
-    private static final String ERROR_PREFIX = "\n[ERROR] ";
+    private static final Duration RESERVATION_HOLD_TIME = Duration.ofMinutes(5);
+    private static final String SERVER_PORT_PROPERTY = "store.server.port";
 
-    private final InputView inputView;
-    private final OutputView outputView;
-    private final OrderService orderService;
-    private final ProductService productService;
-    private final PromotionService promotionService;
+    private final CatalogHolder catalogs;
+    private final CheckoutEngine checkoutEngine;
 
     public Application() {
-        this.productService = new ProductService();
-        this.promotionService = new PromotionService();
-        this.orderService = initializeOrderService();
-        this.inputView = new InputView();
-        this.outputView = new OutputView();
+        StoreMetrics.dumpOnExit(System.err);
+        this.catalogs = new CatalogHolder(Catalog.load());
+        this.checkoutEngine = new CheckoutEngine(initializeOrderService(), RESERVATION_HOLD_TIME);
+        StockAlerts.fromSystemProperty(System.err).ifPresent(alerts -> {
+            catalogs.watchStock(alerts);
+            closeOnExit(alerts::close, "stock-alerts-close");
+        });
+        CatalogReloader.watchFromSystemProperty(catalogs, System.err);
     }
 
+    // 저널은 처음 불러온 카탈로그에 재생한다. 이후 교체되는 카탈로그는 그 재고를 넘겨받는다
     private OrderService initializeOrderService() {
-        return new OrderService(
-                productService.productsValue(),
-                promotionService
-        );
+        SalesRecorder journal = StockJournal.fromSystemProperty(FileLoader.productsPath(),
+                catalogs.current().products(), System.err);
+        closeOnExit(journal::close, "journal-close");
+        return new OrderService(catalogs, new ReservationRegistry(), journal);
     }
 
-    public static void main(String[] args) {
-        new Application().run();
-    }
-
-    public void run() {
-        try {
-            startShoppingProcess();
-        } catch (IllegalArgumentException e) {
-            printError(e.getMessage());
-        }
-    }
-
-    private void startShoppingProcess() {
-        displayInitialInformation();
-        processShoppingSession();
-    }
-
-    private void displayInitialInformation() {
-        inputView.start();
-        outputView.printProducts(productService.createProductDescriptions());
-    }
-
-    private void processShoppingSession() { // 쇼핑 프로세스
-        Receipt receipt = createShoppingReceipt();
-        processShoppingResult(receipt);
-    }
-
-    private Receipt createShoppingReceipt() {
-        Map<String, Integer> items = null;
-        while (items == null) {
-            try {
-                items = processOrderItems();
-            } catch (IllegalArgumentException e) {
-                printError(e.getMessage());
-            }
-        }
-        return createReceiptWithMembership(items);
-    }
-
-    private Map<String, Integer> processOrderItems() {
-        Map<String, Integer> items = readItemWithRetry();
-        if (items == null) {
-            return null;
-        }
-
-        items = processPromotions(items);
-
-        if (!validateAndUpdateItems(items)) {  // 유효성 검증 실패시 재시도
-            return processOrderItems();
-        }
-
-        return items;
-    }
-
-    private Map<String, Integer> readItemWithRetry() {
-        while (true) {
-            try {
-                return inputView.readItem();
-            } catch (IllegalArgumentException e) {
-                printError(e.getMessage());
-            }
-        }
-    }
-
-    private boolean validateAndUpdateItems(Map<String, Integer> items) {
-        try {
-            orderService.validateOrder(items);
-            if (!validateNonPromotionalItems(items)) {
-                return false;  // 비프로모션 구매 거부시 false 반환
-            }
-            orderService.validateOrder(items);
-            return true;
-        } catch (IllegalArgumentException e) {
-            printError(e.getMessage());
-            return false;  // 유효성 검증 실패시 false 반환
-        }
-    }
-
-    private Map<String, Integer> processPromotions(Map<String, Integer> items) {
-        Map<String, Integer> updatedItems = new HashMap<>(items);
-        items.forEach((name, quantity) ->
-                processProductPromotion(updatedItems, name, quantity));
-        return updatedItems;
-    }
-
-    private void processProductPromotion(Map<String, Integer> updatedItems,
-                                         String productName,
-                                         int quantity) {
-        Product product = orderService.findProduct(productName);
-        if (canApplyPromotion(productName, product, quantity)) {
-            updatePromotionQuantity(updatedItems, productName, quantity);
-        }
-    }
-
-    private boolean canApplyPromotion(String productName, Product product, int quantity) {
-        return promotionService.canAddMoreItems(product, quantity)
-                && inputView.readAdditionalPurchase(productName, 1);
-    }
-
-    private void updatePromotionQuantity(Map<String, Integer> items,
-                                         String productName,
-                                         int quantity) {
-        items.put(productName, quantity + 1);
-    }
-
-    private boolean validateNonPromotionalItems(Map<String, Integer> items) {
-        return items.entrySet().stream()
-                .allMatch(this::validateNonPromotionalItem);
+    // 콘솔 세션이 끝나거나 서버가 종료 신호를 받으면 쌓인 기록과 알림을 마저 내보내고 닫는다
+    private static void closeOnExit(Runnable close, String name) {
+        Runtime.getRuntime().addShutdownHook(new Thread(close, name));
     }
 
-    private boolean validateNonPromotionalItem(Map.Entry<String, Integer> entry) {
-        String productName = entry.getKey();
-        int quantity = entry.getValue();
-
-        if (!needsNonPromotionalWarning(productName, quantity)) {
-            return true;
+    public static void main(String[] args) {
+        Application application = new Application();
+        Integer port = Integer.getInteger(SERVER_PORT_PROPERTY);
+        if (port != null) {
+            application.serve(port);
+            return;
         }
-        return confirmNonPromotionalPurchase(productName, quantity);
-    }
-
-    private boolean needsNonPromotionalWarning(String productName, int quantity) {
-        return orderService.shouldShowNonPromotionalWarning(productName, quantity);
-    }
-
-    private boolean confirmNonPromotionalPurchase(String productName, int quantity) {
-        int nonPromotionalQty = orderService.calculateNonPromotionalQuantity(productName, quantity);
-        return inputView.confirmNonPromotionalPurchase(productName, nonPromotionalQty);
+        application.run();
     }
 
-    private Receipt createReceiptWithMembership(Map<String, Integer> items) {
-        boolean useMembership = inputView.readMembershipOption();
-        return orderService.createOrder(items, useMembership);
+    public void run() {
+        openSession(new InputView(), new OutputView()).run();
     }
 
-    private void processShoppingResult(Receipt receipt) {
-        if (receipt == null) {
-            outputView.printContinueShopping();  // 새로 추가된 메소드
-            if (inputView.readContinueShopping()) {
-                startShoppingProcess();
-            }
-            return;
-        }
-        displayReceiptAndContinueShopping(receipt);
+    public StoreSession openSession(InputView inputView, OutputView outputView) {
+        return new StoreSession(() -> catalogs.current().products(), checkoutEngine, inputView, outputView,
+                SessionTimer.NONE);
     }
 
-    private void displayReceiptAndContinueShopping(Receipt receipt) {
-        outputView.printReceipt(receipt);
-        if (inputView.readContinueShopping()) {
-            startShoppingProcess();
+    // 접속마다 가상 스레드 하나에서 세션을 돌린다. 프로세스가 끝날 때까지 접속을 받는다
+    private void serve(int port) {
+        try (SessionServer server = SessionServer.open(port, this::openSession)) {
+            server.awaitTermination();
         }
     }
-
-    private void printError(String message) {
-        System.out.println(ERROR_PREFIX + message);
-    }
-}
\ No newline at end of file
+}
@@ -1,137 +1,274 @@
 package store;
 
-import java.nio.file.Files;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDate;
+import java.time.DateTimeException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import store.domain.product.Product;
 import store.domain.promotion.Promotion;
+import store.jfr.CatalogLoadEvent;
+import store.loader.ChunkSink;
+import store.loader.CsvRow;
+import store.loader.MappedLineReader;
+import store.loader.ParallelLineReader;
+import store.loader.RowHandler;
+import store.loader.SnapshotStore;
+import store.loader.Utf8Interner;
+import store.metrics.StoreMetrics;
 
 public class FileLoader {
     private static final String PRODUCTS_FILE = "src/main/resources/products.md";
     private static final String PROMOTIONS_FILE = "src/main/resources/promotions.md";
+    private static final String PRODUCTS_FILE_PROPERTY = "store.products.file";
+    private static final String PROMOTIONS_FILE_PROPERTY = "store.promotions.file";
+    private static final String PARALLELISM_PROPERTY = "store.loader.parallelism";
+    private static final int SEQUENTIAL = 1;
     private static final String PRODUCT_LOAD_ERROR = "상품 정보를 불러올 수 없습니다.";
     private static final String PROMOTION_LOAD_ERROR = "프로모션 정보를 불러올 수 없습니다.";
     private static final String INVALID_PRODUCT_FORMAT = "잘못된 상품 데이터 형식입니다.";
     private static final String INVALID_PROMOTION_FORMAT = "잘못된 프로모션 데이터 형식입니다.";
+    private static final String LINE_NUMBER_FORMAT = "%s (%d번째 줄)";
     private static final int PRODUCT_PARTS_COUNT = 4;
     private static final int PROMOTION_PARTS_COUNT = 5;
     private static final int HEADER_LINE_COUNT = 1;
 
+    public static Path productsPath() {
+        return Paths.get(System.getProperty(PRODUCTS_FILE_PROPERTY, PRODUCTS_FILE));
+    }
+
+    public static Path promotionsPath() {
+        return Paths.get(System.getProperty(PROMOTIONS_FILE_PROPERTY, PROMOTIONS_FILE));
+    }
+
     public static List<Product> loadProducts() {
-        List<String> lines = readProductLines();
-        return parseProducts(lines);
+        return loadProducts(productsPath());
     }
 
-    private static List<String> readProductLines() {
-        try {
-            return Files.readAllLines(Paths.get(PRODUCTS_FILE));
-        } catch (Exception e) {
-            throw new IllegalStateException(PRODUCT_LOAD_ERROR, e);
+    public static List<Product> loadProducts(Path path) {
+        return loadProducts(path, Integer.getInteger(PARALLELISM_PROPERTY, SEQUENTIAL));
+    }
+
+    public static List<Product> loadProducts(Path path, int parallelism) {
+        long startedAt = StoreMetrics.PRODUCT_LOAD.start();
+        List<Product> products = readProductSnapshot(path)
+                .orElseGet(() -> parseProducts(path, parallelism));
+        StoreMetrics.PRODUCT_LOAD.stop(startedAt);
+        return products;
+    }
+
+    // 적재 단계마다 JFR 이벤트를 하나씩 남긴다. 스냅샷 단계는 스냅샷을 켰을 때만 있다
+    private static Optional<List<Product>> readProductSnapshot(Path path) {
+        if (!SnapshotStore.isEnabled()) {
+            return Optional.empty();
+        }
+        CatalogLoadEvent event = CatalogLoadEvent.start();
+        Optional<List<Product>> products = SnapshotStore.readProducts(path);
+        event.commitPhase(path, CatalogLoadEvent.SNAPSHOT_READ, SEQUENTIAL, products.map(List::size).orElse(0));
+        return products;
+    }
+
+    private static List<Product> parseProducts(Path path, int parallelism) {
+        CatalogLoadEvent event = CatalogLoadEvent.start();
+        List<Product> products = readProducts(path, parallelism);
+        event.commitPhase(path, CatalogLoadEvent.PARSE, Math.max(SEQUENTIAL, parallelism), products.size());
+        writeProductSnapshot(path, products);
+        return products;
+    }
+
+    private static void writeProductSnapshot(Path path, List<Product> products) {
+        if (!SnapshotStore.isEnabled()) {
+            return;
+        }
+        CatalogLoadEvent event = CatalogLoadEvent.start();
+        SnapshotStore.writeProducts(path, products);
+        event.commitPhase(path, CatalogLoadEvent.SNAPSHOT_WRITE, SEQUENTIAL, products.size());
+    }
+
+    private static List<Product> readProducts(Path path, int parallelism) {
+        if (parallelism <= SEQUENTIAL) {
+            return loadProductsSequentially(path);
         }
+        return loadProductsInParallel(path, parallelism);
     }
 
-    private static List<Product> parseProducts(List<String> lines) {
+    private static List<Product> loadProductsSequentially(Path path) {
         List<Product> products = new ArrayList<>();
-        processProductLines(lines, products);
+        CsvRow row = new CsvRow(new Utf8Interner());
+        readRows(path, row, PRODUCT_LOAD_ERROR, current -> processProductRow(current, products));
         return products;
     }
 
-    private static void processProductLines(List<String> lines, List<Product> products) {
-        for (int i = HEADER_LINE_COUNT; i < lines.size(); i++) {
-            processProductLine(lines.get(i), products);
+    private static List<Product> loadProductsInParallel(Path path, int parallelism) {
+        try {
+            List<List<Product>> chunks = new ParallelLineReader(parallelism)
+                    .read(path, HEADER_LINE_COUNT, () -> new CsvRow(new Utf8Interner()), ProductChunk::new);
+            return mergeChunks(chunks);
+        } catch (IOException e) {
+            throw new IllegalStateException(PRODUCT_LOAD_ERROR, e);
         }
     }
 
-    private static void processProductLine(String line, List<Product> products) {
-        if (line.trim().isEmpty()) {
+    private static List<Product> mergeChunks(List<List<Product>> chunks) {
+        int size = chunks.stream()
+                .mapToInt(List::size)
+                .sum();
+        List<Product> products = new ArrayList<>(size);
+        chunks.forEach(products::addAll);
+        return products;
+    }
+
+    private static void processProductRow(CsvRow row, List<Product> products) {
+        if (row.isBlank()) {
             return;
         }
-        products.add(createProduct(line));
+        products.add(createProduct(row));
     }
 
-    private static Product createProduct(String line) {
-        String[] parts = line.split(",");
-        validateProductParts(parts);
-        return buildProduct(parts);
+    private static Product createProduct(CsvRow row) {
+        validateProductParts(row);
+        try {
+            return buildProduct(row);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(withLineNumber(INVALID_PRODUCT_FORMAT, row), e);
+        }
     }
 
-    private static Product buildProduct(String[] parts) {
+    private static Product buildProduct(CsvRow row) {
         return new Product(
-                parts[0],
-                parseInteger(parts[1]),
-                parseInteger(parts[2]),
-                parts[3]
+                row.repeatedText(0),
+                row.integer(1),
+                row.integer(2),
+                row.text(3)
         );
     }
 
-    private static int parseInteger(String value) {
-        return Integer.parseInt(value.trim());
+    public static Map<String, Promotion> loadPromotions() {
+        return loadPromotions(promotionsPath());
     }
 
-    public static Map<String, Promotion> loadPromotions() {
-        List<String> lines = readPromotionLines();
-        return parsePromotions(lines);
+    public static Map<String, Promotion> loadPromotions(Path path) {
+        long startedAt = StoreMetrics.PROMOTION_LOAD.start();
+        Map<String, Promotion> promotions = readPromotionSnapshot(path)
+                .map(FileLoader::toPromotionMap)
+                .orElseGet(() -> parsePromotions(path));
+        StoreMetrics.PROMOTION_LOAD.stop(startedAt);
+        return promotions;
     }
 
-    private static List<String> readPromotionLines() {
-        try {
-            return Files.readAllLines(Paths.get(PROMOTIONS_FILE));
-        } catch (Exception e) {
-            throw new IllegalStateException(PROMOTION_LOAD_ERROR, e);
+    private static Optional<List<Promotion>> readPromotionSnapshot(Path path) {
+        if (!SnapshotStore.isEnabled()) {
+            return Optional.empty();
         }
+        CatalogLoadEvent event = CatalogLoadEvent.start();
+        Optional<List<Promotion>> promotions = SnapshotStore.readPromotions(path);
+        event.commitPhase(path, CatalogLoadEvent.SNAPSHOT_READ, SEQUENTIAL, promotions.map(List::size).orElse(0));
+        return promotions;
     }
 
-    private static Map<String, Promotion> parsePromotions(List<String> lines) {
+    private static Map<String, Promotion> parsePromotions(Path path) {
+        CatalogLoadEvent event = CatalogLoadEvent.start();
         Map<String, Promotion> promotions = new ConcurrentHashMap<>();
-        processPromotionLines(lines, promotions);
+        CsvRow row = new CsvRow(new Utf8Interner());
+        readRows(path, row, PROMOTION_LOAD_ERROR, current -> processPromotionRow(current, promotions));
+        event.commitPhase(path, CatalogLoadEvent.PARSE, SEQUENTIAL, promotions.size());
+        writePromotionSnapshot(path, promotions);
         return promotions;
     }
 
-    private static void processPromotionLines(List<String> lines, Map<String, Promotion> promotions) {
-        for (int i = HEADER_LINE_COUNT; i < lines.size(); i++) {
-            processPromotionLine(lines.get(i), promotions);
+    private static void writePromotionSnapshot(Path path, Map<String, Promotion> promotions) {
+        if (!SnapshotStore.isEnabled()) {
+            return;
         }
+        CatalogLoadEvent event = CatalogLoadEvent.start();
+        SnapshotStore.writePromotions(path, promotions);
+        event.commitPhase(path, CatalogLoadEvent.SNAPSHOT_WRITE, SEQUENTIAL, promotions.size());
     }
 
-    private static void processPromotionLine(String line, Map<String, Promotion> promotions) {
-        if (line.trim().isEmpty()) {
+    private static Map<String, Promotion> toPromotionMap(List<Promotion> promotionList) {
+        Map<String, Promotion> promotions = new ConcurrentHashMap<>();
+        promotionList.forEach(promotion -> promotions.put(promotion.nameValue(), promotion));
+        return promotions;
+    }
+
+    private static void processPromotionRow(CsvRow row, Map<String, Promotion> promotions) {
+        if (row.isBlank()) {
             return;
         }
-        addPromotionToMap(line, promotions);
+        addPromotionToMap(row, promotions);
     }
 
-    private static void addPromotionToMap(String line, Map<String, Promotion> promotions) {
-        Promotion promotion = createPromotion(line);
+    private static void addPromotionToMap(CsvRow row, Map<String, Promotion> promotions) {
+        Promotion promotion = createPromotion(row);
         promotions.put(promotion.nameValue(), promotion);
     }
 
-    private static Promotion createPromotion(String line) {
-        String[] parts = line.split(",");
-        validatePromotionParts(parts);
-        return buildPromotion(parts);
+    private static Promotion createPromotion(CsvRow row) {
+        validatePromotionParts(row);
+        try {
+            return buildPromotion(row);
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new IllegalStateException(withLineNumber(INVALID_PROMOTION_FORMAT, row), e);
+        }
     }
 
-    private static Promotion buildPromotion(String[] parts) {
-        return new Promotion(
-                parts[0],
-                LocalDate.parse(parts[3]),
-                LocalDate.parse(parts[4])
+    private static Promotion buildPromotion(CsvRow row) {
+        Promotion promotion = new Promotion(
+                row.text(0),
+                row.integer(1),
+                row.integer(2),
+                row.date(3),
+                row.date(4)
         );
+        validatePromotionRule(promotion, row);
+        return promotion;
+    }
+
+    private static void validatePromotionRule(Promotion promotion, CsvRow row) {
+        if (promotion.buyQuantityValue() <= 0 || promotion.giftQuantityValue() <= 0) {
+            throw new IllegalStateException(withLineNumber(INVALID_PROMOTION_FORMAT, row));
+        }
+    }
+
+    private static void readRows(Path path, CsvRow row, String loadError, RowHandler handler) {
+        try {
+            new MappedLineReader().read(path, HEADER_LINE_COUNT, row, handler);
+        } catch (IOException e) {
+            throw new IllegalStateException(loadError, e);
+        }
+    }
+
+    private static void validateProductParts(CsvRow row) {
+        if (row.fieldCount() != PRODUCT_PARTS_COUNT) {
+            throw new IllegalStateException(withLineNumber(INVALID_PRODUCT_FORMAT, row));
+        }
     }
 
-    private static void validateProductParts(String[] parts) {
-        if (parts.length != PRODUCT_PARTS_COUNT) {
-            throw new IllegalStateException(INVALID_PRODUCT_FORMAT);
+    private static void validatePromotionParts(CsvRow row) {
+        if (row.fieldCount() != PROMOTION_PARTS_COUNT) {
+            throw new IllegalStateException(withLineNumber(INVALID_PROMOTION_FORMAT, row));
         }
     }
 
-    private static void validatePromotionParts(String[] parts) {
-        if (parts.length != PROMOTION_PARTS_COUNT) {
-            throw new IllegalStateException(INVALID_PROMOTION_FORMAT);
+    private static class ProductChunk implements ChunkSink<List<Product>> {
+        private final List<Product> products = new ArrayList<>();
+
+        @Override
+        public void handle(CsvRow row) {
+            processProductRow(row, products);
         }
+
+        @Override
+        public List<Product> result() {
+            return products;
+        }
+    }
+
+    private static String withLineNumber(String message, CsvRow row) {
+        return String.format(LINE_NUMBER_FORMAT, message, row.lineNumber());
     }
-}
\ No newline at end of file
+}
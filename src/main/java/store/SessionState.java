@@ -0,0 +1,11 @@
+package store;
+
+public enum SessionState {
+    BROWSE,
+    ORDER,
+    PROMOTION_PROMPT,
+    MEMBERSHIP,
+    RECEIPT,
+    CONTINUE,
+    END
+}
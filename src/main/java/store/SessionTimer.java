@@ -0,0 +1,10 @@
+package store;
+
+// 세션 상태 한 단계에 걸린 시간을 받는다. 고객 입력을 기다린 시간도 포함된다
+@FunctionalInterface
+public interface SessionTimer {
+    SessionTimer NONE = (state, elapsedNanos) -> {
+    };
+
+    void record(SessionState state, long elapsedNanos);
+}
@@ -0,0 +1,148 @@
+package store;
+
+import java.util.function.Supplier;
+import store.domain.order.OrderLines;
+import store.domain.product.Products;
+import store.domain.receipt.Receipt;
+import store.domain.reservation.Reservation;
+import store.service.CheckoutEngine;
+import store.service.CustomerPolicy;
+import store.view.ConsoleCustomerPolicy;
+import store.view.InputView;
+import store.view.OrderInputParser;
+import store.view.OutputView;
+
+/*
+ * 한 고객의 쇼핑 흐름. 입출력은 세션마다 따로 두고 상품 목록과 결제 엔진은 모든 세션이 공유한다.
+ * 상태마다 한 단계씩 진행하고 다음 상태를 돌려주므로 구매를 몇 번 반복해도 호출 깊이가 늘지 않는다.
+ */
+public class StoreSession {
+    private final Supplier<Products> products;
+    private final CheckoutEngine checkoutEngine;
+    private final InputView inputView;
+    private final OutputView outputView;
+    private final CustomerPolicy customerPolicy;
+    private final SessionTimer timer;
+    // 구매마다 바뀌는 상태. 파서는 방금 보여준 상품 목록으로 만들어 그 카탈로그의 이름만 받는다
+    private OrderInputParser orderParser;
+    private OrderLines orderItems;
+    private Reservation reservation;
+    private Receipt receipt;
+
+    public StoreSession(Products products, CheckoutEngine checkoutEngine, InputView inputView, OutputView outputView) {
+        this(products, checkoutEngine, inputView, outputView, SessionTimer.NONE);
+    }
+
+    public StoreSession(Products products, CheckoutEngine checkoutEngine, InputView inputView, OutputView outputView,
+                        SessionTimer timer) {
+        this(() -> products, checkoutEngine, inputView, outputView, timer);
+    }
+
+    // 카탈로그가 바뀔 수 있으면 상품 목록을 보여줄 때마다 그 순간의 목록을 받는다
+    public StoreSession(Supplier<Products> products, CheckoutEngine checkoutEngine, InputView inputView,
+                        OutputView outputView, SessionTimer timer) {
+        this.products = products;
+        this.checkoutEngine = checkoutEngine;
+        this.inputView = inputView;
+        this.outputView = outputView;
+        this.customerPolicy = new ConsoleCustomerPolicy(inputView);
+        this.timer = timer;
+    }
+
+    public void run() {
+        try {
+            runStates();
+        } catch (IllegalArgumentException e) {
+            outputView.printError(e.getMessage());
+        }
+    }
+
+    private void runStates() {
+        SessionState state = SessionState.BROWSE;
+        while (state != SessionState.END) {
+            state = runTimed(state);
+        }
+    }
+
+    private SessionState runTimed(SessionState state) {
+        long startedAt = System.nanoTime();
+        SessionState next = runState(state);
+        timer.record(state, System.nanoTime() - startedAt);
+        return next;
+    }
+
+    private SessionState runState(SessionState state) {
+        return switch (state) {
+            case BROWSE -> browse();
+            case ORDER -> readOrder();
+            case PROMOTION_PROMPT -> promptPromotions();
+            case MEMBERSHIP -> askMembership();
+            case RECEIPT -> printReceipt();
+            case CONTINUE -> askContinueShopping();
+            case END -> SessionState.END;
+        };
+    }
+
+    private SessionState browse() {
+        Products current = products.get();
+        inputView.start();
+        outputView.printProducts(current.describeAllProducts());
+        orderParser = new OrderInputParser(current);
+        return SessionState.ORDER;
+    }
+
+    private SessionState readOrder() {
+        orderItems = readItemWithRetry();
+        return SessionState.PROMOTION_PROMPT;
+    }
+
+    private OrderLines readItemWithRetry() {
+        while (true) {
+            try {
+                return inputView.readItem(orderParser);
+            } catch (IllegalArgumentException e) {
+                outputView.printError(e.getMessage());
+            }
+        }
+    }
+
+    // 증정 추가 제안 후 재고를 예약하고 정가 구매를 확인한다. 검증 실패나 정가 구매 거부시 다시 입력받는다
+    private SessionState promptPromotions() {
+        try {
+            reservation = checkoutEngine.reserve(orderItems, customerPolicy);
+            if (!checkoutEngine.acceptNonPromotionalItems(reservation, customerPolicy)) {
+                return SessionState.ORDER;
+            }
+            return SessionState.MEMBERSHIP;
+        } catch (IllegalArgumentException e) {
+            return reject(e);
+        }
+    }
+
+    private SessionState askMembership() {
+        try {
+            boolean useMembership = checkoutEngine.askMembership(reservation, customerPolicy);
+            receipt = checkoutEngine.complete(reservation, useMembership);
+            return SessionState.RECEIPT;
+        } catch (IllegalArgumentException e) {
+            return reject(e);
+        }
+    }
+
+    private SessionState reject(IllegalArgumentException e) {
+        outputView.printError(e.getMessage());
+        return SessionState.ORDER;
+    }
+
+    private SessionState printReceipt() {
+        outputView.printReceipt(receipt);
+        return SessionState.CONTINUE;
+    }
+
+    private SessionState askContinueShopping() {
+        if (inputView.readContinueShopping()) {
+            return SessionState.BROWSE;
+        }
+        return SessionState.END;
+    }
+}
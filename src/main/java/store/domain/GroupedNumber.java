@@ -0,0 +1,50 @@
+package store.domain;
+
+// String.format("%,d") 와 같은 세 자리 쉼표 표기를 StringBuilder 에 바로 붙인다. 중간 문자열을 만들지 않는다
+public final class GroupedNumber {
+    private static final long[] POWERS_OF_TEN = createPowersOfTen();
+    private static final int GROUP_SIZE = 3;
+
+    private GroupedNumber() {
+    }
+
+    private static long[] createPowersOfTen() {
+        long[] powers = new long[19];
+        powers[0] = 1;
+        for (int i = 1; i < powers.length; i++) {
+            powers[i] = powers[i - 1] * 10;
+        }
+        return powers;
+    }
+
+    // Long.MIN_VALUE 도 다룰 수 있도록 음수 쪽에서 자릿수를 계산한다
+    public static StringBuilder appendTo(StringBuilder out, long value) {
+        if (value < 0) {
+            out.append('-');
+            return appendDigits(out, value);
+        }
+        return appendDigits(out, -value);
+    }
+
+    private static StringBuilder appendDigits(StringBuilder out, long negativeValue) {
+        for (int position = countDigits(negativeValue) - 1; position >= 0; position--) {
+            out.append((char) ('0' - (negativeValue / POWERS_OF_TEN[position]) % 10));
+            appendSeparator(out, position);
+        }
+        return out;
+    }
+
+    private static void appendSeparator(StringBuilder out, int position) {
+        if (position > 0 && position % GROUP_SIZE == 0) {
+            out.append(',');
+        }
+    }
+
+    private static int countDigits(long negativeValue) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && negativeValue <= -POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+}
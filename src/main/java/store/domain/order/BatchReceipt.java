@@ -0,0 +1,10 @@
+package store.domain.order;
+
+import java.util.List;
+
+// 일괄 결제 결과: 요청 순서대로의 주문별 결과와 전체 합계
+public record BatchReceipt(List<OrderOutcome> outcomes, BatchSummary summary) {
+    public static BatchReceipt of(List<OrderOutcome> outcomes) {
+        return new BatchReceipt(List.copyOf(outcomes), BatchSummary.of(outcomes));
+    }
+}
@@ -0,0 +1,35 @@
+package store.domain.order;
+
+import java.util.List;
+import store.domain.receipt.Receipt;
+
+public record BatchSummary(int orderCount, int acceptedCount, long totalQuantity, long totalAmount,
+                           long promotionDiscount, long membershipDiscount) {
+    public static BatchSummary of(List<OrderOutcome> outcomes) {
+        int acceptedCount = 0;
+        long[] sums = new long[4];
+        for (OrderOutcome outcome : outcomes) {
+            acceptedCount += add(sums, outcome.receipt());
+        }
+        return new BatchSummary(outcomes.size(), acceptedCount, sums[0], sums[1], sums[2], sums[3]);
+    }
+
+    private static int add(long[] sums, Receipt receipt) {
+        if (receipt == null) {
+            return 0;
+        }
+        sums[0] += receipt.calculateTotalQuantity();
+        sums[1] += receipt.calculateTotalAmount();
+        sums[2] += receipt.promotionDiscountValue();
+        sums[3] += receipt.calculateMembershipDiscount();
+        return 1;
+    }
+
+    public int rejectedCount() {
+        return orderCount - acceptedCount;
+    }
+
+    public long finalAmount() {
+        return totalAmount - promotionDiscount - membershipDiscount;
+    }
+}
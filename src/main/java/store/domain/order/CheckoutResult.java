@@ -0,0 +1,26 @@
+package store.domain.order;
+
+import store.domain.receipt.Receipt;
+
+// 결제 한 번의 결과. 거절(REJECTED)은 입력 오류 메시지를, 고객이 정가 구매를 사양한 경우(DECLINED)는 아무것도 갖지 않는다
+public record CheckoutResult(CheckoutStatus status, Receipt receipt, String errorMessage) {
+    public static CheckoutResult completed(Receipt receipt) {
+        return new CheckoutResult(CheckoutStatus.COMPLETED, receipt, null);
+    }
+
+    public static CheckoutResult rejected(String errorMessage) {
+        return new CheckoutResult(CheckoutStatus.REJECTED, null, errorMessage);
+    }
+
+    public static CheckoutResult declined() {
+        return new CheckoutResult(CheckoutStatus.DECLINED, null, null);
+    }
+
+    public boolean isCompleted() {
+        return status == CheckoutStatus.COMPLETED;
+    }
+
+    public boolean isRejected() {
+        return status == CheckoutStatus.REJECTED;
+    }
+}
@@ -0,0 +1,7 @@
+package store.domain.order;
+
+public enum CheckoutStatus {
+    COMPLETED,
+    REJECTED,
+    DECLINED
+}
@@ -0,0 +1,116 @@
+package store.domain.order;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import store.domain.product.Products;
+
+/*
+ * 한 주문의 상품 줄. 상품명과 수량을 줄 순서대로 배열에 담고, 상품 번호는 카탈로그마다 한 번만 찾아 둔다.
+ * 검증, 예약, 영수증 생성이 같은 번호를 다시 쓰므로 단계마다 이름을 해시하거나 수량을 박싱하지 않는다.
+ * 만든 뒤에는 바뀌지 않고, 수량을 바꾸면 새 주문을 돌려준다.
+ */
+public final class OrderLines {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final String[] names;
+    private final int[] quantities;
+    private volatile Resolution resolution;
+
+    private OrderLines(String[] names, int[] quantities, Resolution resolution) {
+        this.names = names;
+        this.quantities = quantities;
+        this.resolution = resolution;
+    }
+
+    public static OrderLines of(Map<String, Integer> items) {
+        Builder builder = new Builder();
+        items.forEach(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    public String nameOf(int line) {
+        return names[line];
+    }
+
+    public int quantityOf(int line) {
+        return quantities[line];
+    }
+
+    public List<String> namesValue() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    // 다른 카탈로그로 처리하면 그 카탈로그 기준으로 다시 찾는다
+    public int productIdOf(int line, Products products) {
+        Resolution current = resolution;
+        if (current == null || current.products() != products) {
+            current = Resolution.of(names, products);
+            resolution = current;
+        }
+        return current.productIds()[line];
+    }
+
+    public OrderLines withQuantity(int line, int quantity) {
+        int[] updated = quantities.clone();
+        updated[line] = quantity;
+        return new OrderLines(names, updated, resolution);
+    }
+
+    private record Resolution(Products products, int[] productIds) {
+        static Resolution of(String[] names, Products products) {
+            int[] productIds = new int[names.length];
+            for (int line = 0; line < names.length; line++) {
+                productIds[line] = products.productIdOf(names[line]);
+            }
+            return new Resolution(products, productIds);
+        }
+    }
+
+    // 같은 상품을 다시 넣으면 처음 줄의 자리에서 수량만 바꾼다. 주문 줄은 몇 개뿐이라 선형 탐색으로 찾는다
+    public static final class Builder {
+        private String[] names = new String[INITIAL_CAPACITY];
+        private int[] quantities = new int[INITIAL_CAPACITY];
+        private int size;
+
+        public Builder add(String name, int quantity) {
+            int line = indexOf(name);
+            if (line < 0) {
+                line = append(name);
+            }
+            quantities[line] = quantity;
+            return this;
+        }
+
+        private int indexOf(String name) {
+            for (int line = 0; line < size; line++) {
+                if (names[line].equals(name)) {
+                    return line;
+                }
+            }
+            return -1;
+        }
+
+        private int append(String name) {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+                quantities = Arrays.copyOf(quantities, size * 2);
+            }
+            names[size] = name;
+            return size++;
+        }
+
+        public OrderLines build() {
+            return new OrderLines(Arrays.copyOf(names, size), Arrays.copyOf(quantities, size), null);
+        }
+    }
+}
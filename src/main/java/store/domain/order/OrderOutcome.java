@@ -0,0 +1,18 @@
+package store.domain.order;
+
+import store.domain.receipt.Receipt;
+
+// 일괄 결제에서 주문 한 건의 결과. 거절된 주문은 영수증 대신 createOrder 가 던졌을 메시지를 가진다
+public record OrderOutcome(Receipt receipt, String errorMessage) {
+    public static OrderOutcome accepted(Receipt receipt) {
+        return new OrderOutcome(receipt, null);
+    }
+
+    public static OrderOutcome rejected(String errorMessage) {
+        return new OrderOutcome(null, errorMessage);
+    }
+
+    public boolean isAccepted() {
+        return receipt != null;
+    }
+}
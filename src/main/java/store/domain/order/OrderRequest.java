@@ -0,0 +1,6 @@
+package store.domain.order;
+
+import java.util.Map;
+
+public record OrderRequest(Map<String, Integer> items, boolean useMembership) {
+}
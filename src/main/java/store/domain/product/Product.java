@@ -1,24 +1,48 @@
 package store.domain.product;
 
-import java.util.List;
+import java.util.Arrays;
+import store.domain.GroupedNumber;
 
+// 상품 값은 저장소에 두고 Product 는 저장소의 한 행을 가리킨다. 카탈로그에서는 여러 상품이 한 열 저장소를 나눠 쓴다
 public class Product {
-    private final String name;
-    private final int price;
-    private final String promotionName;
-    private int quantity;
+    private static final StockWatcher[] NO_WATCHERS = new StockWatcher[0];
+
+    private final ProductStore store;
+    private final int row;
+    private volatile StockWatcher[] stockWatchers = NO_WATCHERS;
 
     public Product(String name, int price, int quantity, String promotionName) {
-        this.name = name;
-        this.price = price;
-        this.quantity = quantity;
-        this.promotionName = promotionName;
+        this(new SingleProductStore(name, price, quantity, promotionName), 0);
+    }
+
+    Product(ProductStore store, int row) {
+        this.store = store;
+        this.row = row;
     }
 
     public void decreaseQuantity(int amount) {
         validateOrderQuantity(amount);
-        validateStock(amount);
-        this.quantity -= amount;
+        if (!tryDecreaseQuantity(amount)) {
+            throw new IllegalStateException("재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요.");
+        }
+    }
+
+    public boolean tryDecreaseQuantity(int amount) {
+        int current = store.quantity(row);
+        while (current >= amount) {
+            if (store.compareAndSetQuantity(row, current, current - amount)) {
+                notifyWatchers(current, current - amount);
+                return true;
+            }
+            current = store.quantity(row);
+        }
+        return false;
+    }
+
+    public void increaseQuantity(int amount) {
+        validateOrderQuantity(amount);
+        int quantity = store.addAndGetQuantity(row, amount);
+        notifyWatchers(quantity - amount, quantity);
     }
 
     private void validateOrderQuantity(int orderQuantity) {
@@ -27,77 +51,105 @@ public class Product {
         }
     }
 
-    private void validateStock(int orderQuantity) {
-        if (this.quantity < orderQuantity) {
-            throw new IllegalStateException("재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요.");
+    public void restoreQuantity(int restoredQuantity) {
+        int previousQuantity = store.getAndSetQuantity(row, restoredQuantity);
+        notifyWatchers(previousQuantity, restoredQuantity);
+    }
+
+    // 카탈로그를 교체할 때 남은 재고를 새 상품으로 옮기려고 비운다. 물러난 상품이므로 감시자에게 알리지 않는다
+    int takeAllQuantity() {
+        return store.getAndSetQuantity(row, 0);
+    }
+
+    // 감시자 목록은 바꿀 때마다 새 배열로 갈아 끼우므로 재고를 바꾸는 쪽은 락 없이 읽는다 (copy-on-write)
+    synchronized void watchStock(StockWatcher watcher) {
+        StockWatcher[] watchers = Arrays.copyOf(stockWatchers, stockWatchers.length + 1);
+        watchers[watchers.length - 1] = watcher;
+        stockWatchers = watchers;
+    }
+
+    synchronized void unwatchStock(StockWatcher watcher) {
+        stockWatchers = Arrays.stream(stockWatchers)
+                .filter(registered -> registered != watcher)
+                .toArray(StockWatcher[]::new);
+    }
+
+    private void notifyWatchers(int previousQuantity, int quantity) {
+        for (StockWatcher watcher : stockWatchers) {
+            watcher.stockChanged(this, previousQuantity, quantity);
         }
     }
 
-    public String describeProduct(List<Product> allProducts) {
+    // hasNonPromotionalStock: 같은 이름의 일반 재고가 남아 있는지. 프로모션 상품 줄에서만 쓴다
+    public String describeProduct(boolean hasNonPromotionalStock) {
+        StringBuilder line = new StringBuilder(64);
         if (isStockEmpty()) {
-            return formatEmptyStockDescription();
+            return appendEmptyStockDescription(line).append(' ').append(formatPromotion()).toString();
+        }
+        appendAvailableStockDescription(line);
+        if (hasPromotion() && !hasNonPromotionalStock) {
+            appendEmptyStockDescription(line.append('\n'));
         }
-        return formatAvailableStockDescription(allProducts);
+        return line.toString();
     }
 
-    private String formatEmptyStockDescription() {
-        return String.format("- %s %,d원 재고 없음 %s", name, price, formatPromotion());
+    private StringBuilder appendEmptyStockDescription(StringBuilder line) {
+        return appendNameAndPrice(line).append("원 재고 없음");
     }
 
-    private String formatAvailableStockDescription(List<Product> allProducts) {
-        String baseDescription = String.format("- %s %,d원 %d개 %s", name, price, quantity, formatPromotion());
-        if (!hasPromotion()) {
-            return baseDescription;
-        }
-        if (hasNonPromotionalStock(allProducts)) {
-            return baseDescription;
-        }
-        return appendNormalStockDescription(baseDescription);
+    private void appendAvailableStockDescription(StringBuilder line) {
+        appendNameAndPrice(line).append("원 ")
+                .append(store.quantity(row))
+                .append("개 ")
+                .append(formatPromotion());
     }
 
-    private String appendNormalStockDescription(String baseDescription) {
-        return String.format("%s\n- %s %,d원 재고 없음", baseDescription, name, price);
+    private StringBuilder appendNameAndPrice(StringBuilder line) {
+        line.append("- ").append(store.name(row)).append(' ');
+        return GroupedNumber.appendTo(line, store.price(row));
     }
 
     private boolean isStockEmpty() {
-        return quantity == 0;
+        return store.quantity(row) == 0;
     }
 
     private String formatPromotion() {
         if (!hasPromotion()) {
             return "";
         }
-        return promotionName;
+        return store.promotionName(row);
     }
 
     public boolean hasPromotion() {
-        return promotionName != null && !promotionName.isEmpty() && !promotionName.equals("null");
+        return store.hasPromotion(row);
     }
 
-    private boolean hasNonPromotionalStock(List<Product> allProducts) {
-        return allProducts.stream()
-                .filter(p -> p.matchesName(name))
-                .filter(p -> !p.hasPromotion())
-                .anyMatch(p -> p.quantity > 0);
+    // 프로모션 여부는 저장소에 넣을 때 한 번만 판정한다
+    static boolean isPromotionName(String promotionName) {
+        return promotionName != null && !promotionName.isEmpty() && !promotionName.equals("null");
     }
 
     public boolean matchesName(String targetName) {
-        return this.name.equals(targetName);
+        return store.name(row).equals(targetName);
+    }
+
+    public String nameValue() {
+        return store.name(row);
     }
 
     public boolean hasEnoughStock(int orderQuantity) {
-        return quantity >= orderQuantity;
+        return store.quantity(row) >= orderQuantity;
     }
 
     public int priceValue() {
-        return price;
+        return store.price(row);
     }
 
     public int quantityValue() {
-        return quantity;
+        return store.quantity(row);
     }
 
     public String promotionNameValue() {
-        return promotionName;
+        return store.promotionName(row);
     }
 }
\ No newline at end of file
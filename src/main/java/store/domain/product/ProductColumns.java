@@ -0,0 +1,146 @@
+package store.domain.product;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 카탈로그 전체를 열 단위 배열로 보관한다. 이름과 프로모션 이름은 표에 한 번만 두고 행에는 번호만 적는다.
+ * 행마다 가격/수량/이름 번호/프로모션 번호 int 네 개와 프로모션 여부 1비트만 쓰므로,
+ * 전체 재고 합계나 재고 부족 집계는 int 배열 하나를 도는 반복문이 된다.
+ * 수량 한 칸의 읽기/CAS 는 VarHandle 로 volatile 의미를 지키고, 전체 집계는 획득 펜스 뒤에 일반 읽기로 돈다.
+ */
+final class ProductColumns implements ProductStore {
+    private static final VarHandle QUANTITY = MethodHandles.arrayElementVarHandle(int[].class);
+    private static final int WORD_BITS = Long.SIZE;
+
+    private final String[] names;
+    private final int[] nameIds;
+    private final int[] prices;
+    private final int[] quantities;
+    private final String[] promotionNames;
+    private final int[] promotionIds;
+    private final long[] promotionFlags;
+
+    private ProductColumns(List<Product> products, NameTable names, int[] nameIds,
+                           NameTable promotionNames, int[] promotionIds) {
+        this.names = names.toArray();
+        this.nameIds = nameIds;
+        this.promotionNames = promotionNames.toArray();
+        this.promotionIds = promotionIds;
+        this.prices = new int[products.size()];
+        this.quantities = new int[products.size()];
+        this.promotionFlags = new long[(products.size() + WORD_BITS - 1) / WORD_BITS];
+        for (int row = 0; row < products.size(); row++) {
+            copyRow(row, products.get(row));
+        }
+    }
+
+    // 상품들의 현재 값을 복사해 새 저장소를 만든다. 넘겨받은 상품은 바뀌지 않는다
+    static ProductColumns of(List<Product> products) {
+        NameTable names = new NameTable();
+        NameTable promotionNames = new NameTable();
+        int[] nameIds = new int[products.size()];
+        int[] promotionIds = new int[products.size()];
+        for (int row = 0; row < products.size(); row++) {
+            nameIds[row] = names.idOf(products.get(row).nameValue());
+            promotionIds[row] = promotionNames.idOf(products.get(row).promotionNameValue());
+        }
+        return new ProductColumns(products, names, nameIds, promotionNames, promotionIds);
+    }
+
+    private void copyRow(int row, Product product) {
+        prices[row] = product.priceValue();
+        quantities[row] = product.quantityValue();
+        if (product.hasPromotion()) {
+            promotionFlags[row / WORD_BITS] |= 1L << row;
+        }
+    }
+
+    List<Product> views() {
+        List<Product> views = new ArrayList<>(prices.length);
+        for (int row = 0; row < prices.length; row++) {
+            views.add(new Product(this, row));
+        }
+        return views;
+    }
+
+    long totalQuantity() {
+        VarHandle.acquireFence();
+        long total = 0;
+        for (int quantity : quantities) {
+            total += quantity;
+        }
+        return total;
+    }
+
+    int countQuantityBelow(int threshold) {
+        VarHandle.acquireFence();
+        int count = 0;
+        for (int quantity : quantities) {
+            if (quantity < threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public String name(int row) {
+        return names[nameIds[row]];
+    }
+
+    @Override
+    public int price(int row) {
+        return prices[row];
+    }
+
+    @Override
+    public String promotionName(int row) {
+        return promotionNames[promotionIds[row]];
+    }
+
+    @Override
+    public boolean hasPromotion(int row) {
+        return (promotionFlags[row / WORD_BITS] & (1L << row)) != 0;
+    }
+
+    @Override
+    public int quantity(int row) {
+        return (int) QUANTITY.getVolatile(quantities, row);
+    }
+
+    @Override
+    public boolean compareAndSetQuantity(int row, int expected, int updated) {
+        return QUANTITY.compareAndSet(quantities, row, expected, updated);
+    }
+
+    @Override
+    public int addAndGetQuantity(int row, int amount) {
+        return (int) QUANTITY.getAndAdd(quantities, row, amount) + amount;
+    }
+
+    @Override
+    public int getAndSetQuantity(int row, int quantity) {
+        return (int) QUANTITY.getAndSet(quantities, row, quantity);
+    }
+
+    private static class NameTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+
+        int idOf(String name) {
+            return ids.computeIfAbsent(name, added -> {
+                names.add(added);
+                return names.size() - 1;
+            });
+        }
+
+        String[] toArray() {
+            return names.toArray(String[]::new);
+        }
+    }
+}
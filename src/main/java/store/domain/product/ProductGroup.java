@@ -0,0 +1,56 @@
+package store.domain.product;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public class ProductGroup {
+    private final int id;
+    private final List<Product> products = new ArrayList<>();
+    private final List<Product> view = Collections.unmodifiableList(products);
+    private Optional<Product> first = Optional.empty();
+    private Product promotionProduct;
+    private Product normalProduct;
+
+    ProductGroup(int id) {
+        this.id = id;
+    }
+
+    void add(Product product) {
+        if (products.isEmpty()) {
+            first = Optional.of(product);
+        }
+        products.add(product);
+        assignStock(product);
+    }
+
+    private void assignStock(Product product) {
+        if (product.hasPromotion() && promotionProduct == null) {
+            promotionProduct = product;
+        }
+        if (!product.hasPromotion() && normalProduct == null) {
+            normalProduct = product;
+        }
+    }
+
+    public int idValue() {
+        return id;
+    }
+
+    public Optional<Product> firstProduct() {
+        return first;
+    }
+
+    public List<Product> productsValue() {
+        return view;
+    }
+
+    public Product promotionProduct() {
+        return promotionProduct;
+    }
+
+    public Product normalProduct() {
+        return normalProduct;
+    }
+}
@@ -0,0 +1,56 @@
+package store.domain.product;
+
+import java.util.Collection;
+
+/*
+ * 입력 문자열의 한 구간과 같은 상품명을 부분 문자열을 만들지 않고 찾는다.
+ * String.hashCode 와 같은 해시로 구간을 해시해 열린 주소 표를 선형 탐색한다.
+ */
+final class ProductNameIndex {
+    private final String[] names;
+    private final int[] hashes;
+    private final int mask;
+
+    ProductNameIndex(Collection<String> productNames) {
+        int capacity = Integer.highestOneBit(Math.max(1, productNames.size()) * 2) * 2;
+        this.names = new String[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        productNames.forEach(this::add);
+    }
+
+    private void add(String name) {
+        int slot = spread(name.hashCode()) & mask;
+        while (names[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+        names[slot] = name;
+        hashes[slot] = name.hashCode();
+    }
+
+    String find(String text, int start, int end) {
+        int hash = hash(text, start, end);
+        for (int slot = spread(hash) & mask; names[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matches(names[slot], text, start, end)) {
+                return names[slot];
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(String name, String text, int start, int end) {
+        return name.length() == end - start && text.regionMatches(start, name, 0, name.length());
+    }
+
+    private static int hash(String text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,20 @@
+package store.domain.product;
+
+// 상품 값을 행 번호로 읽고 쓰는 저장소. Product 는 (저장소, 행) 위의 뷰다
+interface ProductStore {
+    String name(int row);
+
+    int price(int row);
+
+    String promotionName(int row);
+
+    boolean hasPromotion(int row);
+
+    int quantity(int row);
+
+    boolean compareAndSetQuantity(int row, int expected, int updated);
+
+    int addAndGetQuantity(int row, int amount);
+
+    int getAndSetQuantity(int row, int quantity);
+}
@@ -1,31 +1,149 @@
 package store.domain.product;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class Products {
+    public static final int UNKNOWN_PRODUCT = -1;
+    private static final ProductGroup EMPTY_GROUP = new ProductGroup(UNKNOWN_PRODUCT);
+
     private final List<Product> products;
+    private final Map<String, ProductGroup> index;
+    private final ProductGroup[] groups;
+    private final ProductNameIndex names;
+    private final StockLedger stockLedger = new StockLedger();
+    private final RenderedCatalog renderedCatalog;
+    private final ProductColumns columns;
 
     public Products(List<Product> products) {
-        this.products = new ArrayList<>(products);
+        this(new ArrayList<>(products), null);
+    }
+
+    private Products(List<Product> products, ProductColumns columns) {
+        this.products = products;
+        this.columns = columns;
+        this.index = buildIndex(this.products);
+        this.groups = orderGroups(index);
+        this.names = new ProductNameIndex(index.keySet());
+        this.renderedCatalog = new RenderedCatalog(this.products);
+    }
+
+    // 상품들의 현재 값을 열 저장소 하나로 옮긴 카탈로그. 넘겨받은 상품 대신 저장소 위의 새 상품 뷰를 쓴다
+    public static Products columnar(List<Product> products) {
+        ProductColumns columns = ProductColumns.of(products);
+        return new Products(columns.views(), columns);
+    }
+
+    private static Map<String, ProductGroup> buildIndex(List<Product> products) {
+        Map<String, ProductGroup> index = new HashMap<>();
+        for (Product product : products) {
+            index.computeIfAbsent(product.nameValue(), name -> new ProductGroup(index.size()))
+                    .add(product);
+        }
+        return index;
+    }
+
+    private static ProductGroup[] orderGroups(Map<String, ProductGroup> index) {
+        ProductGroup[] groups = new ProductGroup[index.size()];
+        index.values().forEach(group -> groups[group.idValue()] = group);
+        return groups;
     }
 
     public List<String> describeAllProducts() {
-        return products.stream()
-                .map(product -> product.describeProduct(products))
-                .toList();
+        return renderedCatalog.describe();
     }
 
     public Optional<Product> findByName(String name) {
-        return products.stream()
-                .filter(product -> product.matchesName(name))
-                .findFirst();
+        return findGroup(name).firstProduct();
     }
 
     public List<Product> findAllByName(String name) {
+        return findGroup(name).productsValue();
+    }
+
+    public Product findPromotionProduct(String name) {
+        return findGroup(name).promotionProduct();
+    }
+
+    public Product findNormalProduct(String name) {
+        return findGroup(name).normalProduct();
+    }
+
+    // 상품 번호는 같은 이름의 상품 묶음마다 하나씩, 처음 나온 순서대로 매긴다
+    public int productIdOf(String name) {
+        return findGroup(name).idValue();
+    }
+
+    // text[start, end) 와 같은 상품명이 있으면 카탈로그의 문자열을, 없으면 null 을 돌려준다
+    public String findProductName(String text, int start, int end) {
+        return names.find(text, start, end);
+    }
+
+    public ProductGroup groupOf(int productId) {
+        if (productId == UNKNOWN_PRODUCT) {
+            return EMPTY_GROUP;
+        }
+        return groups[productId];
+    }
+
+    public List<Product> productsValue() {
+        return Collections.unmodifiableList(products);
+    }
+
+    public long totalQuantity() {
+        if (columns != null) {
+            return columns.totalQuantity();
+        }
         return products.stream()
-                .filter(product -> product.matchesName(name))
-                .toList();
+                .mapToLong(Product::quantityValue)
+                .sum();
+    }
+
+    public int countQuantityBelow(int threshold) {
+        if (columns != null) {
+            return columns.countQuantityBelow(threshold);
+        }
+        return (int) products.stream()
+                .filter(product -> product.quantityValue() < threshold)
+                .count();
+    }
+
+    // 모든 상품의 재고 변경을 받는다. 재고 안내 캐시 같은 기존 감시자 뒤에 이어 붙는다
+    public void watchStock(StockWatcher watcher) {
+        products.forEach(product -> product.watchStock(watcher));
+    }
+
+    // 물러난 카탈로그가 더는 감시자에게 알리지 않도록 떼어 낸다
+    public void unwatchStock(StockWatcher watcher) {
+        products.forEach(product -> product.unwatchStock(watcher));
+    }
+
+    public StockLock lockStock(Collection<String> productNames) {
+        return stockLedger.lock(productNames);
+    }
+
+    public StockLock lockAllStock() {
+        return stockLedger.lock(index.keySet());
+    }
+
+    // 교체될 카탈로그의 재고를 넘겨받을 준비를 한다. 재고는 이전 카탈로그의 락을 쥐고 complete 할 때 옮긴다
+    public StockHandover takeOverStock(Products previous) {
+        return new StockHandover(previous.products, this);
+    }
+
+    Product findCounterpart(Product product) {
+        if (product.hasPromotion()) {
+            return findPromotionProduct(product.nameValue());
+        }
+        return findNormalProduct(product.nameValue());
+    }
+
+    private ProductGroup findGroup(String name) {
+        return index.getOrDefault(name, EMPTY_GROUP);
     }
 }
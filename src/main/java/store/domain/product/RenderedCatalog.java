@@ -0,0 +1,116 @@
+package store.domain.product;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 재고 안내 목록을 상품별 줄로 캐시한다. 같은 이름의 상품은 서로의 줄에 영향을 주므로 이름 묶음 단위로
+ * 더러움 비트를 두고, 재고가 바뀐 묶음의 줄만 다시 그린다. 바뀐 것이 없으면 이전 목록을 그대로 돌려준다.
+ * 감시자는 재고를 바꾼 뒤 비트를 세우고, 그리는 쪽은 비트를 지운 뒤 재고를 읽으므로 변경을 놓치지 않는다.
+ */
+class RenderedCatalog {
+    private static final int WORD_BITS = Long.SIZE;
+
+    private final List<Product> products;
+    private final int[][] groupMembers;
+    private final String[] lines;
+    private final AtomicLongArray dirtyGroups;
+    private final AtomicBoolean changed = new AtomicBoolean(true);
+    private final ReentrantLock renderLock = new ReentrantLock();
+    private volatile List<String> snapshot = List.of();
+
+    RenderedCatalog(List<Product> products) {
+        this.products = products;
+        this.groupMembers = groupMembers(products);
+        this.lines = new String[products.size()];
+        this.dirtyGroups = new AtomicLongArray((groupMembers.length + WORD_BITS - 1) / WORD_BITS);
+        for (int group = 0; group < groupMembers.length; group++) {
+            watchGroup(group);
+        }
+    }
+
+    private static int[][] groupMembers(List<Product> products) {
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            groups.computeIfAbsent(products.get(i).nameValue(), name -> new ArrayList<>()).add(i);
+        }
+        return groups.values().stream()
+                .map(members -> members.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+    }
+
+    private void watchGroup(int group) {
+        markDirty(group);
+        for (int member : groupMembers[group]) {
+            products.get(member).watchStock((product, previousQuantity, quantity) -> markDirty(group));
+        }
+    }
+
+    private void markDirty(int group) {
+        int word = group / WORD_BITS;
+        long bit = 1L << group;
+        if ((dirtyGroups.get(word) & bit) == 0) {
+            dirtyGroups.getAndAccumulate(word, bit, (current, added) -> current | added);
+        }
+        if (!changed.get()) {
+            changed.set(true);
+        }
+    }
+
+    // 다른 세션이 다시 그리는 중이면 기다렸다가 새 목록을 받는다
+    List<String> describe() {
+        if (!changed.get() && !renderLock.isLocked()) {
+            return snapshot;
+        }
+        renderLock.lock();
+        try {
+            renderIfChanged();
+            return snapshot;
+        } finally {
+            renderLock.unlock();
+        }
+    }
+
+    private void renderIfChanged() {
+        if (!changed.getAndSet(false)) {
+            return;
+        }
+        for (int word = 0; word < dirtyGroups.length(); word++) {
+            renderWord(word);
+        }
+        snapshot = List.of(lines);
+    }
+
+    private void renderWord(int word) {
+        if (dirtyGroups.get(word) == 0) {
+            return;
+        }
+        long bits = dirtyGroups.getAndSet(word, 0);
+        while (bits != 0) {
+            renderGroup(word * WORD_BITS + Long.numberOfTrailingZeros(bits));
+            bits &= bits - 1;
+        }
+    }
+
+    private void renderGroup(int group) {
+        boolean hasNonPromotionalStock = hasNonPromotionalStock(groupMembers[group]);
+        for (int member : groupMembers[group]) {
+            lines[member] = products.get(member).describeProduct(hasNonPromotionalStock);
+        }
+    }
+
+    private boolean hasNonPromotionalStock(int[] members) {
+        for (int member : members) {
+            Product product = products.get(member);
+            if (!product.hasPromotion() && product.quantityValue() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
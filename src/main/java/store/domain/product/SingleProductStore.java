@@ -0,0 +1,63 @@
+package store.domain.product;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+// 상품 하나만 담는 저장소. 카탈로그 밖에서 따로 만든 상품이 쓴다
+final class SingleProductStore implements ProductStore {
+    private static final AtomicIntegerFieldUpdater<SingleProductStore> QUANTITY =
+            AtomicIntegerFieldUpdater.newUpdater(SingleProductStore.class, "quantity");
+
+    private final String name;
+    private final int price;
+    private final String promotionName;
+    private final boolean promotion;
+    private volatile int quantity;
+
+    SingleProductStore(String name, int price, int quantity, String promotionName) {
+        this.name = name;
+        this.price = price;
+        this.quantity = quantity;
+        this.promotionName = promotionName;
+        this.promotion = Product.isPromotionName(promotionName);
+    }
+
+    @Override
+    public String name(int row) {
+        return name;
+    }
+
+    @Override
+    public int price(int row) {
+        return price;
+    }
+
+    @Override
+    public String promotionName(int row) {
+        return promotionName;
+    }
+
+    @Override
+    public boolean hasPromotion(int row) {
+        return promotion;
+    }
+
+    @Override
+    public int quantity(int row) {
+        return quantity;
+    }
+
+    @Override
+    public boolean compareAndSetQuantity(int row, int expected, int updated) {
+        return QUANTITY.compareAndSet(this, expected, updated);
+    }
+
+    @Override
+    public int addAndGetQuantity(int row, int amount) {
+        return QUANTITY.addAndGet(this, amount);
+    }
+
+    @Override
+    public int getAndSetQuantity(int row, int quantity) {
+        return QUANTITY.getAndSet(this, quantity);
+    }
+}
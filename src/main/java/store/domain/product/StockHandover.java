@@ -0,0 +1,57 @@
+package store.domain.product;
+
+import java.util.List;
+
+/*
+ * 교체될 카탈로그의 재고를 새 카탈로그의 같은 상품(이름, 프로모션 재고 여부)으로 넘긴다.
+ * 짝 찾기, 새 상품 비우기, 감시자 연결은 만들 때 끝내 두므로 이전 카탈로그의 락을 쥔 동안에는 재고만 옮긴다.
+ * 옮긴 뒤 이전 상품으로 돌아오는 재고(예약 해제)도 곧바로 넘어온다. 재고는 비우면서 가져오므로 한 개가 두 번 옮겨지지 않는다.
+ * 이전 카탈로그에만 있는 상품의 재고는 버린다.
+ */
+public class StockHandover {
+    private final Product[] retired;
+    private final Product[] counterparts;
+    private volatile boolean completed;
+
+    StockHandover(List<Product> previous, Products next) {
+        this.retired = previous.toArray(Product[]::new);
+        this.counterparts = new Product[retired.length];
+        for (int i = 0; i < retired.length; i++) {
+            counterparts[i] = pair(retired[i], next.findCounterpart(retired[i]));
+        }
+    }
+
+    private Product pair(Product product, Product counterpart) {
+        if (counterpart == null) {
+            return null;
+        }
+        counterpart.restoreQuantity(0);
+        product.watchStock((retiredProduct, previousQuantity, quantity) ->
+                forwardReturnedStock(retiredProduct, counterpart, previousQuantity, quantity));
+        return counterpart;
+    }
+
+    // 이전 카탈로그의 모든 재고 락을 쥔 채로 부른다
+    public void complete() {
+        completed = true;
+        for (int i = 0; i < retired.length; i++) {
+            move(retired[i], counterparts[i]);
+        }
+    }
+
+    private void forwardReturnedStock(Product product, Product counterpart, int previousQuantity, int quantity) {
+        if (completed && quantity > previousQuantity) {
+            move(product, counterpart);
+        }
+    }
+
+    private static void move(Product product, Product counterpart) {
+        if (counterpart == null) {
+            return;
+        }
+        int quantity = product.takeAllQuantity();
+        if (quantity > 0) {
+            counterpart.increaseQuantity(quantity);
+        }
+    }
+}
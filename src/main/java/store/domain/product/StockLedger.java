@@ -0,0 +1,65 @@
+package store.domain.product;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import store.metrics.StoreMetrics;
+
+public class StockLedger {
+    private static final int STRIPE_COUNT = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+
+    public StockLedger() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    // 교착 상태를 막기 위해 항상 스트라이프 번호 순서대로 잠근다
+    public StockLock lock(Collection<String> productNames) {
+        boolean[] selected = selectStripes(productNames);
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            lockSelected(selected, i);
+        }
+        return () -> unlock(selected);
+    }
+
+    private boolean[] selectStripes(Collection<String> productNames) {
+        boolean[] selected = new boolean[STRIPE_COUNT];
+        for (String name : productNames) {
+            selected[stripeOf(name)] = true;
+        }
+        return selected;
+    }
+
+    private int stripeOf(String productName) {
+        int hash = productName.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1);
+    }
+
+    private void lockSelected(boolean[] selected, int stripe) {
+        if (selected[stripe]) {
+            lockStripe(stripes[stripe]);
+        }
+    }
+
+    // 다른 계산대가 쥔 락을 기다려야 하면 재고 경합으로 센다
+    private static void lockStripe(ReentrantLock stripe) {
+        if (!stripe.tryLock()) {
+            StoreMetrics.STOCK_CONFLICTS.increment();
+            stripe.lock();
+        }
+    }
+
+    private void unlock(boolean[] selected) {
+        for (int i = STRIPE_COUNT - 1; i >= 0; i--) {
+            unlockSelected(selected, i);
+        }
+    }
+
+    private void unlockSelected(boolean[] selected, int stripe) {
+        if (selected[stripe]) {
+            stripes[stripe].unlock();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package store.domain.product;
+
+public interface StockLock extends AutoCloseable {
+    @Override
+    void close();
+}
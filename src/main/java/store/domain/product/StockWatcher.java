@@ -0,0 +1,10 @@
+package store.domain.product;
+
+// 재고를 바꾼 스레드에서 바뀐 직후 바로 불린다. 오래 걸리는 일은 다른 스레드로 넘겨야 한다
+@FunctionalInterface
+public interface StockWatcher {
+    StockWatcher NONE = (product, previousQuantity, quantity) -> {
+    };
+
+    void stockChanged(Product product, int previousQuantity, int quantity);
+}
@@ -2,25 +2,74 @@ package store.domain.promotion;
 
 import java.time.LocalDate;
 
+// buy 개를 사면 gift 개를 더 주는 N+M 규칙. 묶음 크기는 생성 시 한 번만 계산한다
 public class Promotion {
     private final String name;
+    private final int buyQuantity;
+    private final int giftQuantity;
+    private final int bundleSize;
     private final LocalDate startDate;
     private final LocalDate endDate;
+    private final long startEpochDay;
+    private final long endEpochDay;
 
-    public Promotion(String name, LocalDate startDate, LocalDate endDate) {
+    public Promotion(String name, int buyQuantity, int giftQuantity, LocalDate startDate, LocalDate endDate) {
         this.name = name;
+        this.buyQuantity = buyQuantity;
+        this.giftQuantity = giftQuantity;
+        this.bundleSize = buyQuantity + giftQuantity;
         this.startDate = startDate;
         this.endDate = endDate;
+        this.startEpochDay = startDate.toEpochDay();
+        this.endEpochDay = endDate.toEpochDay();
     }
 
     public String nameValue() {
         return name;
     }
 
+    public int buyQuantityValue() {
+        return buyQuantity;
+    }
+
+    public int giftQuantityValue() {
+        return giftQuantity;
+    }
+
+    public LocalDate startDateValue() {
+        return startDate;
+    }
+
+    public LocalDate endDateValue() {
+        return endDate;
+    }
+
+    public int countBundles(int quantity) {
+        return quantity / bundleSize;
+    }
+
+    public int calculateGiftQuantity(int quantity) {
+        return countBundles(quantity) * giftQuantity;
+    }
+
+    public int calculateBundledQuantity(int quantity) {
+        return countBundles(quantity) * bundleSize;
+    }
+
+    // 증정 수량만큼 더 담으면 묶음이 완성되는 경우
+    public boolean isMissingGift(int quantity) {
+        return quantity % bundleSize == buyQuantity;
+    }
+
     public boolean isActive(LocalDate date) {
         return isAfterOrEqualStartDate(date) && isBeforeOrEqualEndDate(date);
     }
 
+    // 날짜 객체 없이 에포크 일수로 기간을 판단한다
+    public boolean isActiveOn(long epochDay) {
+        return startEpochDay <= epochDay && epochDay <= endEpochDay;
+    }
+
     private boolean isAfterOrEqualStartDate(LocalDate date) {
         return date.isEqual(startDate) || date.isAfter(startDate);
     }
@@ -28,4 +77,4 @@ public class Promotion {
     private boolean isBeforeOrEqualEndDate(LocalDate date) {
         return date.isEqual(endDate) || date.isBefore(endDate);
     }
-}
\ No newline at end of file
+}
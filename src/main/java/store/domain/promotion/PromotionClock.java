@@ -0,0 +1,11 @@
+package store.domain.promotion;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import java.time.LocalDateTime;
+
+// 프로모션 기간 판단에 쓰는 시계. 스케줄을 만들 때와 자정을 넘길 때만 읽는다
+public interface PromotionClock {
+    PromotionClock SYSTEM = DateTimes::now;
+
+    LocalDateTime now();
+}
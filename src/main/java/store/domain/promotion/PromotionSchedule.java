@@ -0,0 +1,68 @@
+package store.domain.promotion;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 오늘 날짜를 에포크 일수 하나로 들고 있다가 프로모션에 미리 계산해 둔 시작·종료 일수와 비교한다.
+ * 시계는 만들 때와 자정을 넘길 때만 읽는다. 자정 넘김은 데몬 타이머가 맡으므로
+ * isActive 는 필드 하나를 읽고 정수 두 개를 비교할 뿐이다.
+ */
+public class PromotionSchedule {
+    private static final ScheduledExecutorService CALENDAR = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "promotion-calendar");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final PromotionClock clock;
+    private volatile long todayEpochDay;
+
+    public PromotionSchedule(PromotionClock clock) {
+        this.clock = clock;
+        rollOver();
+    }
+
+    // 자정마다 날짜를 다시 읽는 스케줄. 타이머는 약한 참조만 들고 있어 버려진 스케줄은 더 잡지 않는다
+    public static PromotionSchedule startDaily(PromotionClock clock) {
+        PromotionSchedule schedule = new PromotionSchedule(clock);
+        scheduleRollOver(new WeakReference<>(schedule), schedule.untilMidnight(clock.now()));
+        return schedule;
+    }
+
+    public boolean isActive(Promotion promotion) {
+        return promotion.isActiveOn(todayEpochDay);
+    }
+
+    public LocalDate todayValue() {
+        return LocalDate.ofEpochDay(todayEpochDay);
+    }
+
+    // 시계를 한 번 읽어 오늘 날짜를 바꾸고 다음 자정까지 남은 시간을 돌려준다
+    public Duration rollOver() {
+        LocalDateTime now = clock.now();
+        todayEpochDay = now.toLocalDate().toEpochDay();
+        return untilMidnight(now);
+    }
+
+    private Duration untilMidnight(LocalDateTime now) {
+        return Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay());
+    }
+
+    private static void scheduleRollOver(WeakReference<PromotionSchedule> reference, Duration delay) {
+        CALENDAR.schedule(() -> rollOverDaily(reference), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static void rollOverDaily(WeakReference<PromotionSchedule> reference) {
+        PromotionSchedule schedule = reference.get();
+        if (schedule == null) {
+            return;
+        }
+        scheduleRollOver(reference, schedule.rollOver());
+    }
+}
@@ -1,23 +1,44 @@
 package store.domain.receipt;
 
+import java.util.Collections;
 import java.util.List;
 import store.service.PromotionService;
 
+/*
+ * 합계는 만들 때 항목을 한 번 훑어 모두 계산해 둔다. 금액은 long 으로 더해 대량 주문에서도 넘치지 않는다.
+ */
 public class Receipt {
     private static final double MEMBERSHIP_DISCOUNT_RATE = 0.3;
-    private static final int MAX_MEMBERSHIP_DISCOUNT = 8000;
+    private static final long MAX_MEMBERSHIP_DISCOUNT = 8000;
 
     private final List<ReceiptItem> items;
-    private final int promotionDiscount;
+    private final long promotionDiscount;
     private final boolean useMembership;
-    private final PromotionService promotionService;
+    private final int totalQuantity;
+    private final long totalAmount;
+    private final long membershipDiscount;
 
-    public Receipt(List<ReceiptItem> items, int promotionDiscount,
+    public Receipt(List<ReceiptItem> items, long promotionDiscount,
                    boolean useMembership, PromotionService promotionService) {
-        this.items = items;
+        this.items = Collections.unmodifiableList(items);
         this.promotionDiscount = promotionDiscount;
         this.useMembership = useMembership;
-        this.promotionService = promotionService;
+        Totals totals = Totals.of(items, promotionService);
+        this.totalQuantity = Math.toIntExact(totals.quantity());
+        this.totalAmount = totals.amount();
+        this.membershipDiscount = calculateMembershipDiscount(useMembership, totals.discountableAmount());
+    }
+
+    private static long calculateMembershipDiscount(boolean useMembership, long discountableAmount) {
+        if (!useMembership) {
+            return 0;
+        }
+        long membershipDiscount = (long) (discountableAmount * MEMBERSHIP_DISCOUNT_RATE);
+        return Math.min(membershipDiscount, MAX_MEMBERSHIP_DISCOUNT);
+    }
+
+    public List<ReceiptItem> itemsValue() {
+        return items;
     }
 
     public List<String> createOrderLines() {
@@ -34,53 +55,48 @@ public class Receipt {
     }
 
     public int calculateTotalQuantity() {
-        return items.stream()
-                .mapToInt(ReceiptItem::quantityValue)
-                .sum();
+        return totalQuantity;
     }
 
-    public int calculateTotalAmount() {
-        return items.stream()
-                .mapToInt(ReceiptItem::calculateAmount)
-                .sum();
+    public long calculateTotalAmount() {
+        return totalAmount;
     }
 
-    public int promotionDiscountValue() {
+    public long promotionDiscountValue() {
         return promotionDiscount;
     }
 
-    public int calculateMembershipDiscount() {
-        if (!useMembership) {
-            return 0;
-        }
-        return calculateDiscountAmount();
+    public boolean useMembershipValue() {
+        return useMembership;
     }
 
-    private int calculateDiscountAmount() {
-        int discountableAmount = calculateDiscountableAmount();
-        int membershipDiscount = (int) (discountableAmount * MEMBERSHIP_DISCOUNT_RATE);
-        return calculateFinalDiscountAmount(membershipDiscount);
-    }
-
-    private int calculateFinalDiscountAmount(int membershipDiscount) {
-        if (membershipDiscount > MAX_MEMBERSHIP_DISCOUNT) {
-            return MAX_MEMBERSHIP_DISCOUNT;
-        }
+    public long calculateMembershipDiscount() {
         return membershipDiscount;
     }
 
-    private int calculateDiscountableAmount() {
-        return items.stream()
-                .filter(this::isDiscountableItem)
-                .mapToInt(ReceiptItem::calculateAmount)
-                .sum();
+    public long calculateFinalAmount() {
+        return totalAmount - promotionDiscount - membershipDiscount;
     }
 
-    private boolean isDiscountableItem(ReceiptItem item) {
-        return !item.hasGift() && !promotionService.isPromotionProduct(item.nameValue());
-    }
+    // 증정이 없고 이름에 프로모션이 붙지 않은 항목만 멤버십 할인 대상이다
+    private record Totals(long quantity, long amount, long discountableAmount) {
+        static Totals of(List<ReceiptItem> items, PromotionService promotionService) {
+            long quantity = 0;
+            long amount = 0;
+            long discountableAmount = 0;
+            for (ReceiptItem item : items) {
+                quantity = Math.addExact(quantity, item.quantityValue());
+                amount = Math.addExact(amount, item.calculateAmount());
+                discountableAmount = Math.addExact(discountableAmount, discountableAmount(item, promotionService));
+            }
+            return new Totals(quantity, amount, discountableAmount);
+        }
 
-    public int calculateFinalAmount() {
-        return calculateTotalAmount() - promotionDiscount - calculateMembershipDiscount();
+        private static long discountableAmount(ReceiptItem item, PromotionService promotionService) {
+            if (item.hasGift() || promotionService.isPromotionProduct(item.nameValue())) {
+                return 0;
+            }
+            return item.calculateAmount();
+        }
     }
-}
\ No newline at end of file
+}
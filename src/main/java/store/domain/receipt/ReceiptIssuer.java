@@ -0,0 +1,8 @@
+package store.domain.receipt;
+
+import java.util.List;
+
+// 구매 항목으로 영수증을 만든다. 예약은 재고를 잡을 때의 발행자를 들고 있다가 확정할 때 그대로 쓴다
+public interface ReceiptIssuer {
+    Receipt issue(List<ReceiptItem> items, boolean useMembership);
+}
@@ -1,31 +1,36 @@
 package store.domain.receipt;
 
+import store.domain.GroupedNumber;
+
 public class ReceiptItem {
-    private static final String ITEM_FORMAT = "%s\t\t\t%d\t\t%,d";
-    private static final String GIFT_FORMAT = "%s\t\t\t%d";
+    private static final String COLUMN_GAP = "\t\t\t";
+    private static final String AMOUNT_GAP = "\t\t";
 
     private final String name;
     private final int quantity;
     private final int price;
     private final int giftQuantity;
+    private final long amount;
 
     public ReceiptItem(String name, int quantity, int price, int giftQuantity) {
         this.name = name;
         this.quantity = quantity;
         this.price = price;
         this.giftQuantity = giftQuantity;
+        this.amount = (long) price * quantity;
     }
 
-    public int calculateAmount() {
-        return price * quantity;
+    public long calculateAmount() {
+        return amount;
     }
 
     public String describeOrder() {
-        return String.format(ITEM_FORMAT, name, quantity, calculateAmount());
+        StringBuilder line = new StringBuilder(name).append(COLUMN_GAP).append(quantity).append(AMOUNT_GAP);
+        return GroupedNumber.appendTo(line, calculateAmount()).toString();
     }
 
     public String describeGift() {
-        return String.format(GIFT_FORMAT, name, giftQuantity);
+        return name + COLUMN_GAP + giftQuantity;
     }
 
     public boolean hasGift() {
@@ -0,0 +1,73 @@
+package store.domain.reservation;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import store.domain.receipt.ReceiptIssuer;
+
+public class Reservation {
+    private final long id;
+    private final List<ReservedItem> items;
+    private final ReceiptIssuer receiptIssuer;
+    private final long expiresAtNanos;
+    private final AtomicReference<ReservationStatus> status = new AtomicReference<>(ReservationStatus.HELD);
+
+    // receiptIssuer 는 재고를 잡은 카탈로그다. 확정할 때 카탈로그가 바뀌었어도 영수증은 이 카탈로그로 계산한다
+    public Reservation(long id, List<ReservedItem> items, ReceiptIssuer receiptIssuer, long expiresAtNanos) {
+        this.id = id;
+        this.items = List.copyOf(items);
+        this.receiptIssuer = receiptIssuer;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public boolean confirm() {
+        return status.compareAndSet(ReservationStatus.HELD, ReservationStatus.CONFIRMED);
+    }
+
+    public boolean cancel() {
+        return releaseAs(ReservationStatus.CANCELLED);
+    }
+
+    // 확정한 뒤 판매를 기록하지 못하면 확정을 무르고 재고를 돌려준다
+    public boolean rollBack() {
+        if (!status.compareAndSet(ReservationStatus.CONFIRMED, ReservationStatus.CANCELLED)) {
+            return false;
+        }
+        items.forEach(ReservedItem::release);
+        return true;
+    }
+
+    boolean expire(long nowNanos) {
+        if (nowNanos - expiresAtNanos < 0) {
+            return false;
+        }
+        return releaseAs(ReservationStatus.EXPIRED);
+    }
+
+    private boolean releaseAs(ReservationStatus releasedStatus) {
+        if (!status.compareAndSet(ReservationStatus.HELD, releasedStatus)) {
+            return false;
+        }
+        items.forEach(ReservedItem::release);
+        return true;
+    }
+
+    public boolean isHeld() {
+        return status.get() == ReservationStatus.HELD;
+    }
+
+    public long idValue() {
+        return id;
+    }
+
+    public List<ReservedItem> itemsValue() {
+        return items;
+    }
+
+    public ReceiptIssuer receiptIssuerValue() {
+        return receiptIssuer;
+    }
+
+    public ReservationStatus statusValue() {
+        return status.get();
+    }
+}
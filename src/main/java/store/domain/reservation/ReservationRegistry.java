@@ -0,0 +1,115 @@
+package store.domain.reservation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import store.domain.receipt.ReceiptIssuer;
+
+public class ReservationRegistry implements AutoCloseable {
+    private static final Duration DEFAULT_REAP_INTERVAL = Duration.ofSeconds(1);
+
+    private final Map<Long, Reservation> reservations = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Duration reapInterval;
+    private volatile ScheduledExecutorService reaper;
+    private boolean closed;
+
+    public ReservationRegistry() {
+        this(DEFAULT_REAP_INTERVAL);
+    }
+
+    public ReservationRegistry(Duration reapInterval) {
+        this.reapInterval = reapInterval;
+    }
+
+    // 예약을 먼저 넣고 정리 스레드를 확인해야, 쉬러 가던 정리 스레드가 이 예약을 놓치지 않는다
+    public Reservation register(List<ReservedItem> items, ReceiptIssuer receiptIssuer, Duration holdTime) {
+        long id = sequence.incrementAndGet();
+        Reservation reservation = new Reservation(id, items, receiptIssuer, System.nanoTime() + holdTime.toNanos());
+        reservations.put(id, reservation);
+        startReaperIfNeeded();
+        return reservation;
+    }
+
+    public void remove(Reservation reservation) {
+        reservations.remove(reservation.idValue());
+    }
+
+    public int expireOverdue() {
+        long now = System.nanoTime();
+        int expired = 0;
+        for (Reservation reservation : reservations.values()) {
+            expired += expireIfOverdue(reservation, now);
+        }
+        return expired;
+    }
+
+    private int expireIfOverdue(Reservation reservation, long now) {
+        boolean expired = reservation.expire(now);
+        if (!reservation.isHeld()) {
+            reservations.remove(reservation.idValue());
+        }
+        if (expired) {
+            return 1;
+        }
+        return 0;
+    }
+
+    public int heldCount() {
+        return reservations.size();
+    }
+
+    private void startReaperIfNeeded() {
+        if (reaper != null) {
+            return;
+        }
+        synchronized (this) {
+            if (reaper == null && !closed) {
+                reaper = createReaper();
+            }
+        }
+    }
+
+    private ScheduledExecutorService createReaper() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "reservation-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = reapInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::reap, interval, interval, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    private void reap() {
+        expireOverdue();
+        if (reservations.isEmpty()) {
+            stopReaperIfIdle();
+        }
+    }
+
+    // 잡힌 예약이 없으면 정리 스레드를 내려놓고 다음 예약 때 다시 띄운다. 내려놓는 사이 들어온 예약이 있으면 바로 다시 띄운다
+    private synchronized void stopReaperIfIdle() {
+        if (closed || !reservations.isEmpty()) {
+            return;
+        }
+        reaper.shutdown();
+        reaper = null;
+        if (!reservations.isEmpty()) {
+            reaper = createReaper();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (reaper != null) {
+            reaper.shutdownNow();
+        }
+    }
+}
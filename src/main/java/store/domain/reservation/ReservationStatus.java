@@ -0,0 +1,8 @@
+package store.domain.reservation;
+
+public enum ReservationStatus {
+    HELD,
+    CONFIRMED,
+    CANCELLED,
+    EXPIRED
+}
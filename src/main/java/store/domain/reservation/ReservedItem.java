@@ -0,0 +1,74 @@
+package store.domain.reservation;
+
+import java.util.List;
+import java.util.stream.Stream;
+import store.domain.product.Product;
+import store.domain.receipt.ReceiptItem;
+
+public class ReservedItem {
+    private final String name;
+    private final int quantity;
+    private final int price;
+    private final int giftQuantity;
+    private final int nonPromotionalQuantity;
+    private final boolean nonPromotionalWarning;
+    private final StockHold promotionHold;
+    private final StockHold normalHold;
+
+    public ReservedItem(String name, int quantity, int price, int giftQuantity,
+                        NonPromotionalNotice notice, StockHold promotionHold, StockHold normalHold) {
+        this.name = name;
+        this.quantity = quantity;
+        this.price = price;
+        this.giftQuantity = giftQuantity;
+        this.nonPromotionalQuantity = notice.quantity();
+        this.nonPromotionalWarning = notice.required();
+        this.promotionHold = promotionHold;
+        this.normalHold = normalHold;
+    }
+
+    // 예약이 풀리거나, 판매를 기록하지 못해 차감을 되돌릴 때 재고를 돌려준다
+    public void release() {
+        promotionHold.release();
+        normalHold.release();
+    }
+
+    public List<StockHold> holdsValue() {
+        return Stream.of(promotionHold, normalHold)
+                .filter(hold -> hold != StockHold.NONE)
+                .toList();
+    }
+
+    public ReceiptItem toReceiptItem() {
+        return new ReceiptItem(name, quantity, price, giftQuantity);
+    }
+
+    public boolean needsNonPromotionalWarning() {
+        return nonPromotionalWarning;
+    }
+
+    public String nameValue() {
+        return name;
+    }
+
+    public int quantityValue() {
+        return quantity;
+    }
+
+    public int nonPromotionalQuantityValue() {
+        return nonPromotionalQuantity;
+    }
+
+    public record NonPromotionalNotice(boolean required, int quantity) {
+    }
+
+    public record StockHold(Product product, int quantity) {
+        public static final StockHold NONE = new StockHold(null, 0);
+
+        void release() {
+            if (product != null && quantity > 0) {
+                product.increaseQuantity(quantity);
+            }
+        }
+    }
+}
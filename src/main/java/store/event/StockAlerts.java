@@ -0,0 +1,40 @@
+package store.event;
+
+import java.io.PrintStream;
+import java.util.Optional;
+
+// store.stock.alert.threshold 를 지정하면 재고가 그 수 아래로 내려가거나 소진되는 순간을 알린다
+public final class StockAlerts {
+    private static final String THRESHOLD_PROPERTY = "store.stock.alert.threshold";
+    private static final int EVENT_CAPACITY = 1024;
+    private static final String LOW_STOCK_FORMAT = "[재고 알림] %s %s 재고 %d개 남음%n";
+    private static final String OUT_OF_STOCK_FORMAT = "[재고 알림] %s %s 재고 소진%n";
+
+    private StockAlerts() {
+    }
+
+    // 알림을 켜지 않았으면 비어 있다. 받은 버스는 쓰는 쪽이 닫는다
+    public static Optional<StockEventBus> fromSystemProperty(PrintStream out) {
+        Integer threshold = Integer.getInteger(THRESHOLD_PROPERTY);
+        if (threshold == null) {
+            return Optional.empty();
+        }
+        return Optional.of(open(threshold, out));
+    }
+
+    public static StockEventBus open(int threshold, PrintStream out) {
+        StockEventBus bus = new StockEventBus(EVENT_CAPACITY);
+        bus.subscribe("low-stock", StockEventHandler.onLowStock(threshold, event ->
+                out.printf(LOW_STOCK_FORMAT, event.productName(), stockKind(event), event.quantity())));
+        bus.subscribe("out-of-stock", StockEventHandler.onOutOfStock(event ->
+                out.printf(OUT_OF_STOCK_FORMAT, event.productName(), stockKind(event))));
+        return bus;
+    }
+
+    private static String stockKind(StockEvent event) {
+        if (event.promotional()) {
+            return "프로모션";
+        }
+        return "일반";
+    }
+}
@@ -0,0 +1,13 @@
+package store.event;
+
+// 재고 한 칸의 변경. sequence 는 버스에 들어온 순서대로 0부터 하나씩 늘어난다
+public record StockEvent(long sequence, String productName, boolean promotional, int previousQuantity,
+                         int quantity) {
+    public boolean becameOutOfStock() {
+        return previousQuantity > 0 && quantity == 0;
+    }
+
+    public boolean fellBelow(int threshold) {
+        return previousQuantity >= threshold && quantity < threshold;
+    }
+}
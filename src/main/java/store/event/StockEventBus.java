@@ -0,0 +1,251 @@
+package store.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import store.domain.product.Product;
+import store.domain.product.StockWatcher;
+
+/*
+ * 재고 변경 이벤트를 고정 크기 링 버퍼에 싣고 구독자마다 전용 스레드에서 비동기로 전달한다.
+ * 생산자는 번호를 원자적으로 하나 받아 그 칸에 이벤트를 쓰고, 구독자는 칸의 이벤트 번호가 기다리는 번호와 같을 때 읽는다.
+ * 락은 쓰지 않는다. 가장 느린 구독자가 한 바퀴 뒤처지면 생산자는 칸이 빌 때까지 기다린다 (역압).
+ * 재고를 바꾼 스레드가 기다리게 되므로 구독자는 받은 이벤트를 빨리 넘겨야 한다.
+ * 할 일이 없는 구독자는 잠시 돌다가 잠들고, 생산자가 이벤트를 쓴 뒤 깨운다.
+ * 구독자가 재고를 바꿔 다시 이벤트를 내면 기다리지 않는다. 칸이 없으면 그 이벤트는 버리고 센다.
+ */
+public class StockEventBus implements StockWatcher, AutoCloseable {
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long PARK_NANOS = 50_000;
+    private static final long JOIN_MILLIS = 5_000;
+
+    private final AtomicReferenceArray<StockEvent> entries;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private volatile long gatingCache;
+    private volatile boolean closed;
+
+    // capacity 는 2의 거듭제곱으로 올려 잡는다
+    public StockEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    // 구독 시점 이후에 들어온 이벤트부터 받는다
+    public void subscribe(String name, StockEventHandler handler) {
+        Subscriber subscriber = new Subscriber(name, handler, claimed.get());
+        subscribers.add(subscriber);
+        subscriber.start();
+    }
+
+    @Override
+    public void stockChanged(Product product, int previousQuantity, int quantity) {
+        if (closed) {
+            return;
+        }
+        if (isDeliveryThread()) {
+            publishWithoutWaiting(product, previousQuantity, quantity);
+            return;
+        }
+        long sequence = claimed.getAndIncrement();
+        if (awaitCapacity(sequence)) {
+            publish(sequence, product, previousQuantity, quantity);
+        }
+    }
+
+    private boolean isDeliveryThread() {
+        return Thread.currentThread() instanceof DeliveryThread thread && thread.bus == this;
+    }
+
+    // 구독자 스레드는 자기가 읽기를 막고 있을 수 있으므로 칸을 기다리지 않는다. 칸이 있을 때만 번호를 받는다
+    private void publishWithoutWaiting(Product product, int previousQuantity, int quantity) {
+        long sequence = claimed.get();
+        while (sequence - entries.length() < refreshGatingCache()) {
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                publish(sequence, product, previousQuantity, quantity);
+                return;
+            }
+            sequence = claimed.get();
+        }
+        dropped.incrementAndGet();
+    }
+
+    private void publish(long sequence, Product product, int previousQuantity, int quantity) {
+        entries.set(index(sequence), new StockEvent(sequence, product.nameValue(), product.hasPromotion(),
+                previousQuantity, quantity));
+        subscribers.forEach(Subscriber::wake);
+    }
+
+    private boolean awaitCapacity(long sequence) {
+        long wrapPoint = sequence - entries.length();
+        int idleCount = 0;
+        while (wrapPoint >= gatingCache && wrapPoint >= refreshGatingCache()) {
+            if (closed) {
+                return false;
+            }
+            idle(idleCount++);
+        }
+        return true;
+    }
+
+    // 구독자가 없으면 지금까지 받은 번호까지 덮어써도 된다. 새 구독자는 그 뒤부터 읽는다
+    private long refreshGatingCache() {
+        long minimum = claimed.get();
+        for (Subscriber subscriber : subscribers) {
+            minimum = Math.min(minimum, subscriber.nextSequence.get());
+        }
+        gatingCache = minimum;
+        return minimum;
+    }
+
+    public long publishedCount() {
+        return claimed.get();
+    }
+
+    public long lagValue() {
+        return claimed.get() - refreshGatingCache();
+    }
+
+    public long failureCount() {
+        return failures.get();
+    }
+
+    // 구독자 스레드가 낸 이벤트 중 버퍼에 칸이 없어 버린 수
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    // 이미 들어온 이벤트는 모두 전달한 뒤 구독자 스레드를 끝낸다
+    @Override
+    public void close() {
+        closed = true;
+        subscribers.forEach(Subscriber::stop);
+    }
+
+    private int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    private static void idle(int idleCount) {
+        if (idleCount < SPIN_TRIES) {
+            Thread.onSpinWait();
+            return;
+        }
+        if (idleCount < YIELD_TRIES) {
+            Thread.yield();
+            return;
+        }
+        LockSupport.parkNanos(PARK_NANOS);
+    }
+
+    // 지금 스레드가 이 버스의 구독자 스레드인지 알아보려고 버스를 함께 들고 있다
+    private static final class DeliveryThread extends Thread {
+        private final StockEventBus bus;
+
+        private DeliveryThread(Runnable task, String name, StockEventBus bus) {
+            super(task, name);
+            this.bus = bus;
+            setDaemon(true);
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+        private final StockEventHandler handler;
+        private final AtomicLong nextSequence;
+        private final Thread thread;
+        private volatile boolean waiting;
+
+        private Subscriber(String name, StockEventHandler handler, long firstSequence) {
+            this.handler = handler;
+            this.nextSequence = new AtomicLong(firstSequence);
+            this.thread = new DeliveryThread(this, "stock-events-" + name, StockEventBus.this);
+        }
+
+        private void start() {
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            int idleCount = 0;
+            while (!closed) {
+                idleCount = nextIdleCount(deliverAvailable(), idleCount);
+            }
+            while (deliverAvailable()) {
+                idleCount = 0;
+            }
+        }
+
+        private int nextIdleCount(boolean delivered, int idleCount) {
+            if (delivered) {
+                return 0;
+            }
+            if (idleCount < YIELD_TRIES) {
+                idle(idleCount);
+                return idleCount + 1;
+            }
+            sleepUntilPublished();
+            return 0;
+        }
+
+        // 잠들겠다고 알린 뒤 한 번 더 확인한다. 생산자는 이벤트를 쓴 뒤 waiting 을 보므로 깨우기를 놓치지 않는다
+        private void sleepUntilPublished() {
+            waiting = true;
+            if (!hasNext() && !closed) {
+                LockSupport.park(this);
+            }
+            waiting = false;
+        }
+
+        private boolean hasNext() {
+            long sequence = nextSequence.get();
+            StockEvent event = entries.get(index(sequence));
+            return event != null && event.sequence() == sequence;
+        }
+
+        private void wake() {
+            if (waiting) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        // 이어서 도착한 이벤트를 한 번에 전달하고 읽은 위치는 마지막에 한 번만 옮긴다
+        private boolean deliverAvailable() {
+            long first = nextSequence.get();
+            long sequence = first;
+            StockEvent event = entries.get(index(sequence));
+            while (event != null && event.sequence() == sequence) {
+                deliver(event);
+                sequence++;
+                event = entries.get(index(sequence));
+            }
+            nextSequence.set(sequence);
+            return sequence != first;
+        }
+
+        // 구독자 하나의 실패가 전달 스레드를 멈추거나 생산자를 묶어 두지 않도록 세기만 한다
+        private void deliver(StockEvent event) {
+            try {
+                handler.onEvent(event);
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+            }
+        }
+
+        private void stop() {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(JOIN_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
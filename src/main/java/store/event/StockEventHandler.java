@@ -0,0 +1,25 @@
+package store.event;
+
+import java.util.function.Consumer;
+
+@FunctionalInterface
+public interface StockEventHandler {
+    void onEvent(StockEvent event);
+
+    static StockEventHandler onOutOfStock(Consumer<StockEvent> alert) {
+        return event -> {
+            if (event.becameOutOfStock()) {
+                alert.accept(event);
+            }
+        };
+    }
+
+    // 재고가 threshold 아래로 내려가는 순간에만 알린다. 이미 아래에 있던 재고가 더 줄어도 다시 알리지 않는다
+    static StockEventHandler onLowStock(int threshold, Consumer<StockEvent> alert) {
+        return event -> {
+            if (event.fellBelow(threshold)) {
+                alert.accept(event);
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package store.jfr;
+
+import java.nio.file.Path;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// FileLoader 적재 단계 하나: 스냅샷 읽기, 원본 파싱, 스냅샷 쓰기
+@Name("store.CatalogLoad")
+@Label("Catalog Load Phase")
+@Category({"Store", "Catalog"})
+@Description("상품/프로모션 파일 적재의 한 단계")
+@StackTrace(false)
+public class CatalogLoadEvent extends Event {
+    public static final String SNAPSHOT_READ = "snapshot-read";
+    public static final String PARSE = "parse";
+    public static final String SNAPSHOT_WRITE = "snapshot-write";
+
+    @Label("File")
+    String file;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Parallelism")
+    int parallelism;
+
+    @Label("Row Count")
+    @Description("이 단계가 읽거나 쓴 행 수. 스냅샷이 없거나 낡았으면 0")
+    int rowCount;
+
+    public static CatalogLoadEvent start() {
+        CatalogLoadEvent event = new CatalogLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commitPhase(Path file, String phase, int parallelism, int rowCount) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.file = file.toString();
+        this.phase = phase;
+        this.parallelism = parallelism;
+        this.rowCount = rowCount;
+        commit();
+    }
+}
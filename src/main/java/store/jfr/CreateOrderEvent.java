@@ -0,0 +1,61 @@
+package store.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptItem;
+
+// 주문 한 건의 재고 예약부터 영수증까지, 또는 예약 확정부터 영수증까지. 기록하지 않을 때는 영수증 값을 읽지 않는다
+@Name("store.CreateOrder")
+@Label("Create Order")
+@Category({"Store", "Checkout"})
+@Description("OrderService.createOrder 또는 confirm 한 건")
+@StackTrace(false)
+public class CreateOrderEvent extends Event {
+    // 기록하지 않는 동안 start 가 돌려주는 빈 이벤트. 주문마다 이벤트를 만들지 않는다
+    private static final CreateOrderEvent DISABLED = new CreateOrderEvent();
+
+    @Label("Line Count")
+    int lineCount;
+
+    @Label("Item Count")
+    int itemCount;
+
+    @Label("Gift Quantity")
+    int giftQuantity;
+
+    @Label("Total Amount")
+    long totalAmount;
+
+    @Label("Final Amount")
+    long finalAmount;
+
+    @Label("Membership")
+    boolean membership;
+
+    public static CreateOrderEvent start() {
+        if (!DISABLED.isEnabled()) {
+            return DISABLED;
+        }
+        CreateOrderEvent event = new CreateOrderEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commitOrder(int lineCount, Receipt receipt) {
+        if (this == DISABLED || !shouldCommit()) {
+            return;
+        }
+        this.lineCount = lineCount;
+        this.itemCount = receipt.calculateTotalQuantity();
+        this.giftQuantity = receipt.itemsValue().stream().mapToInt(ReceiptItem::giftQuantityValue).sum();
+        this.totalAmount = receipt.calculateTotalAmount();
+        this.finalAmount = receipt.calculateFinalAmount();
+        this.membership = receipt.useMembershipValue();
+        commit();
+    }
+}
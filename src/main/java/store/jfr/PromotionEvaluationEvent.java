@@ -0,0 +1,84 @@
+package store.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import store.domain.promotion.Promotion;
+
+// 프로모션 판단 한 번: 주문 줄의 증정 수량, 더 받을 수 있는 증정 수량, 또는 영수증의 프로모션 할인 합계
+@Name("store.PromotionEvaluation")
+@Label("Promotion Evaluation")
+@Category({"Store", "Checkout"})
+@Description("주문 줄의 프로모션 적용, 증정 안내, 할인 합계 계산 한 번")
+@StackTrace(false)
+public class PromotionEvaluationEvent extends Event {
+    public static final String ORDER_LINE = "order-line";
+    public static final String ADDABLE_GIFT = "addable-gift";
+    public static final String TOTAL_DISCOUNT = "total-discount";
+    // 기록하지 않는 동안 start 가 돌려주는 빈 이벤트. 주문 줄마다 이벤트를 만들지 않는다
+    private static final PromotionEvaluationEvent DISABLED = new PromotionEvaluationEvent();
+
+    @Label("Evaluation")
+    String evaluation;
+
+    @Label("Product")
+    String productName;
+
+    @Label("Promotion")
+    String promotionName;
+
+    @Label("Quantity")
+    @Description("판단한 주문 수량, 할인 합계는 영수증 항목 수")
+    int quantity;
+
+    @Label("Result")
+    @Description("증정 수량 또는 할인 금액")
+    long result;
+
+    public static PromotionEvaluationEvent start() {
+        if (!DISABLED.isEnabled()) {
+            return DISABLED;
+        }
+        PromotionEvaluationEvent event = new PromotionEvaluationEvent();
+        event.begin();
+        return event;
+    }
+
+    // 활성 프로모션이 없는 줄은 판단할 것이 없으므로 남기지 않는다
+    public void commitLine(String productName, Promotion promotion, int quantity, int giftQuantity) {
+        if (promotion == null || this == DISABLED || !shouldCommit()) {
+            return;
+        }
+        commitGiftAs(ORDER_LINE, productName, promotion.nameValue(), quantity, giftQuantity);
+    }
+
+    public void commitGift(String productName, String promotionName, int quantity, int giftQuantity) {
+        if (this == DISABLED || !shouldCommit()) {
+            return;
+        }
+        commitGiftAs(ADDABLE_GIFT, productName, promotionName, quantity, giftQuantity);
+    }
+
+    private void commitGiftAs(String evaluation, String productName, String promotionName, int quantity,
+                              int giftQuantity) {
+        this.evaluation = evaluation;
+        this.productName = productName;
+        this.promotionName = promotionName;
+        this.quantity = quantity;
+        this.result = giftQuantity;
+        commit();
+    }
+
+    public void commitDiscount(int itemCount, long discount) {
+        if (this == DISABLED || !shouldCommit()) {
+            return;
+        }
+        this.evaluation = TOTAL_DISCOUNT;
+        this.quantity = itemCount;
+        this.result = discount;
+        commit();
+    }
+}
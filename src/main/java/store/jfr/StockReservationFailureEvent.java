@@ -0,0 +1,69 @@
+package store.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import store.domain.order.OrderLines;
+
+// 재고 검증이나 예약에 실패한 주문 하나. 기간은 실패할 때까지 걸린 시간(재고 락 대기 포함)이다
+@Name("store.StockReservationFailure")
+@Label("Stock Reservation Failure")
+@Category({"Store", "Checkout"})
+@Description("재고 부족이나 없는 상품으로 거절된 주문")
+@StackTrace(false)
+public class StockReservationFailureEvent extends Event {
+    public static final String VALIDATE = "validate";
+    public static final String RESERVE = "reserve";
+    public static final String BATCH = "batch";
+    // 기록하지 않는 동안 start 가 돌려주는 빈 이벤트. 검증과 예약마다 이벤트를 만들지 않는다
+    private static final StockReservationFailureEvent DISABLED = new StockReservationFailureEvent();
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Reason")
+    String reason;
+
+    @Label("Products")
+    String products;
+
+    @Label("Line Count")
+    int lineCount;
+
+    @Label("Item Quantity")
+    int itemQuantity;
+
+    public static StockReservationFailureEvent start() {
+        if (!DISABLED.isEnabled()) {
+            return DISABLED;
+        }
+        StockReservationFailureEvent event = new StockReservationFailureEvent();
+        event.begin();
+        return event;
+    }
+
+    public void commitFailure(String stage, OrderLines orderLines, String reason) {
+        if (this == DISABLED || !shouldCommit()) {
+            return;
+        }
+        this.stage = stage;
+        this.reason = reason;
+        if (orderLines != null) {
+            this.products = String.join(",", orderLines.namesValue());
+            this.lineCount = orderLines.size();
+            this.itemQuantity = totalQuantity(orderLines);
+        }
+        commit();
+    }
+
+    private static int totalQuantity(OrderLines orderLines) {
+        int quantity = 0;
+        for (int line = 0; line < orderLines.size(); line++) {
+            quantity += orderLines.quantityOf(line);
+        }
+        return quantity;
+    }
+}
@@ -0,0 +1,75 @@
+package store.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+// 저널 프레임: [본문 길이 int][CRC32 int][순번 long][본문]. CRC 는 순번과 본문을 함께 덮는다
+final class JournalFile {
+    static final int FRAME_HEADER_SIZE = 16;
+    private static final int MAX_PAYLOAD_SIZE = 16 * 1024 * 1024;
+
+    private JournalFile() {
+    }
+
+    static ByteBuffer frame(long sequence, byte[] payload) {
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + payload.length);
+        frame.putInt(payload.length).putInt(0).putLong(sequence).put(payload);
+        frame.putInt(Integer.BYTES, crcOf(frame.array(), payload.length));
+        return frame.flip();
+    }
+
+    private static int crcOf(byte[] frame, int payloadLength) {
+        CRC32 crc = new CRC32();
+        crc.update(frame, Integer.BYTES * 2, Long.BYTES + payloadLength);
+        return (int) crc.getValue();
+    }
+
+    // 마지막으로 온전한 프레임의 끝 위치를 돌려준다. 그 뒤는 쓰다 만 꼬리이므로 잘라낸다
+    static long replay(FileChannel channel, FrameConsumer consumer) throws IOException {
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+        while (readFully(channel, header.clear(), position)) {
+            ByteBuffer frame = readFrame(channel, header.flip(), position);
+            if (frame == null) {
+                break;
+            }
+            consumer.accept(frame.getLong(Integer.BYTES * 2), frame.position(FRAME_HEADER_SIZE).slice());
+            position += frame.capacity();
+        }
+        return position;
+    }
+
+    private static ByteBuffer readFrame(FileChannel channel, ByteBuffer header, long position) throws IOException {
+        int payloadLength = header.getInt(0);
+        if (payloadLength < 0 || payloadLength > MAX_PAYLOAD_SIZE) {
+            return null;
+        }
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + payloadLength);
+        if (!readFully(channel, frame, position)) {
+            return null;
+        }
+        if (crcOf(frame.array(), payloadLength) != header.getInt(Integer.BYTES)) {
+            return null;
+        }
+        return frame;
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                return false;
+            }
+            offset += read;
+        }
+        return true;
+    }
+
+    @FunctionalInterface
+    interface FrameConsumer {
+        void accept(long sequence, ByteBuffer payload);
+    }
+}
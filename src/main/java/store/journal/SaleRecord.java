@@ -0,0 +1,101 @@
+package store.journal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptItem;
+import store.domain.reservation.ReservedItem;
+import store.domain.reservation.ReservedItem.StockHold;
+
+// 확정된 판매 하나: 재고 차감 내역과 영수증 항목을 한 레코드에 담아 주문 단위로 원자적으로 기록한다
+public record SaleRecord(List<StockDelta> deltas, List<ReceiptItem> lines, boolean membership, long finalAmount) {
+    public static SaleRecord of(List<ReservedItem> items, Receipt receipt) {
+        List<StockDelta> deltas = new ArrayList<>();
+        items.forEach(item -> item.holdsValue().forEach(hold -> deltas.add(StockDelta.of(hold))));
+        List<ReceiptItem> lines = items.stream()
+                .map(ReservedItem::toReceiptItem)
+                .toList();
+        return new SaleRecord(deltas, lines, receipt.useMembershipValue(), receipt.calculateFinalAmount());
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            writeDeltas(output);
+            writeLines(output);
+            output.writeBoolean(membership);
+            output.writeLong(finalAmount);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void writeDeltas(DataOutputStream output) throws IOException {
+        output.writeInt(deltas.size());
+        for (StockDelta delta : deltas) {
+            writeName(output, delta.key().name());
+            output.writeBoolean(delta.key().promotional());
+            output.writeInt(delta.soldQuantity());
+        }
+    }
+
+    private void writeLines(DataOutputStream output) throws IOException {
+        output.writeInt(lines.size());
+        for (ReceiptItem line : lines) {
+            writeName(output, line.nameValue());
+            output.writeInt(line.quantityValue());
+            output.writeInt(line.priceValue());
+            output.writeInt(line.giftQuantityValue());
+        }
+    }
+
+    // 이름 길이도 다른 길이 값처럼 int 로 적는다. short 로는 65,535 바이트를 넘는 이름이 잘린다
+    private static void writeName(DataOutputStream output, String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    public static SaleRecord decode(ByteBuffer payload) {
+        List<StockDelta> deltas = readDeltas(payload);
+        List<ReceiptItem> lines = readLines(payload);
+        return new SaleRecord(deltas, lines, payload.get() != 0, payload.getLong());
+    }
+
+    private static List<StockDelta> readDeltas(ByteBuffer payload) {
+        int count = payload.getInt();
+        List<StockDelta> deltas = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            deltas.add(new StockDelta(new StockKey(readName(payload), payload.get() != 0), payload.getInt()));
+        }
+        return deltas;
+    }
+
+    private static List<ReceiptItem> readLines(ByteBuffer payload) {
+        int count = payload.getInt();
+        List<ReceiptItem> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(new ReceiptItem(readName(payload), payload.getInt(), payload.getInt(), payload.getInt()));
+        }
+        return lines;
+    }
+
+    private static String readName(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.getInt()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public record StockDelta(StockKey key, int soldQuantity) {
+        static StockDelta of(StockHold hold) {
+            return new StockDelta(StockKey.of(hold.product()), hold.quantity());
+        }
+    }
+}
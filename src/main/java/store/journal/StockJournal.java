@@ -0,0 +1,380 @@
+package store.journal;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import store.domain.product.Product;
+import store.domain.product.Products;
+import store.domain.receipt.Receipt;
+import store.domain.reservation.ReservedItem;
+import store.loader.CatalogSnapshot;
+import store.loader.SourceStamp;
+import store.service.SalesRecorder;
+
+/*
+ * 확정된 판매를 추가 전용 저널에 기록한다.
+ * 여러 계산대의 기록 요청을 전용 쓰기 스레드가 모아서 한 번에 쓰고 fsync 하므로(group commit)
+ * 판매마다 디스크 flush 비용을 치르지 않는다. 일정 건수마다 현재 재고를 체크포인트 스냅샷으로 압축하고 저널을 비운다.
+ */
+public class StockJournal implements SalesRecorder, AutoCloseable {
+    private static final String JOURNAL_DIR_PROPERTY = "store.journal.dir";
+    private static final String JOURNAL_FILE = "stock.journal";
+    private static final String CHECKPOINT_PREFIX = "stock-";
+    private static final String CHECKPOINT_SUFFIX = ".checkpoint";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String JOURNAL_OPEN_ERROR = "판매 기록을 불러올 수 없습니다.";
+    private static final String JOURNAL_WRITE_ERROR = "판매 기록을 저장할 수 없습니다.";
+    private static final String JOURNAL_CLOSED_ERROR = "판매 기록이 닫혀 더 저장할 수 없습니다.";
+    private static final String COMPACTION_ERROR_FORMAT = "[저널] 체크포인트를 남기지 못해 다음 묶음 뒤에 다시 압축합니다: %s%n";
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final int DEFAULT_COMPACTION_INTERVAL = 10_000;
+    private static final long POLL_MILLIS = 100;
+
+    private final Path directory;
+    private final Path source;
+    private final FileChannel channel;
+    private Map<StockKey, Product> ledger;
+    private final int compactionInterval;
+    private final PrintStream errors;
+    private final BlockingQueue<PendingSale> queue = new LinkedBlockingQueue<>();
+    private final Object intake = new Object();
+    private final Thread writer;
+    private volatile boolean closed;
+    private long lastSequence;
+    private long recordsSinceCheckpoint;
+
+    private StockJournal(Path directory, Path source, Recovery recovery, int compactionInterval,
+                         PrintStream errors) {
+        this.directory = directory;
+        this.source = source;
+        this.channel = recovery.channel();
+        this.ledger = recovery.ledger();
+        this.lastSequence = recovery.lastSequence();
+        this.compactionInterval = compactionInterval;
+        this.errors = errors;
+        this.writer = new Thread(this::writeLoop, "stock-journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public static SalesRecorder fromSystemProperty(Path source, Products products, PrintStream errors) {
+        String directory = System.getProperty(JOURNAL_DIR_PROPERTY);
+        if (directory == null) {
+            return SalesRecorder.NONE;
+        }
+        return open(Paths.get(directory), source, products, DEFAULT_COMPACTION_INTERVAL, errors);
+    }
+
+    public static StockJournal open(Path directory, Path source, Products products, int compactionInterval) {
+        return open(directory, source, products, compactionInterval, System.err);
+    }
+
+    // 체크포인트와 저널을 products 에 재생한 뒤 기록을 받기 시작한다. 쓰기 스레드의 압축 실패는 errors 로 알린다
+    public static StockJournal open(Path directory, Path source, Products products, int compactionInterval,
+                                    PrintStream errors) {
+        try {
+            Files.createDirectories(directory);
+            Recovery recovery = Recovery.run(directory, source, products);
+            return new StockJournal(directory, source, recovery, compactionInterval, errors);
+        } catch (IOException e) {
+            throw new IllegalStateException(JOURNAL_OPEN_ERROR, e);
+        }
+    }
+
+    @Override
+    public void record(List<ReservedItem> items, Receipt receipt) {
+        commitAndWait(List.of(new PendingSale(SaleRecord.of(items, receipt))));
+    }
+
+    @Override
+    public void recordAll(List<CompletedSale> sales) {
+        commitAndWait(sales.stream()
+                .map(sale -> new PendingSale(SaleRecord.of(sale.items(), sale.receipt())))
+                .toList());
+    }
+
+    private void commitAndWait(List<PendingSale> pending) {
+        enqueue(pending);
+        try {
+            pending.forEach(sale -> sale.durable().join());
+        } catch (CompletionException e) {
+            throw new IllegalStateException(JOURNAL_WRITE_ERROR, e.getCause());
+        }
+    }
+
+    // 닫힌 뒤에는 받지 않는다. 쓰기 스레드는 닫히기 전에 받은 기록을 모두 처리하고 끝나므로 기다리는 호출자가 남지 않는다
+    private void enqueue(List<PendingSale> pending) {
+        synchronized (intake) {
+            if (closed) {
+                throw new IllegalStateException(JOURNAL_CLOSED_ERROR);
+            }
+            queue.addAll(pending);
+        }
+    }
+
+    private void markClosed() {
+        synchronized (intake) {
+            closed = true;
+        }
+    }
+
+    private void writeLoop() {
+        List<PendingSale> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                collectBatch(batch);
+                commitBatch(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failPending();
+        }
+    }
+
+    private void collectBatch(List<PendingSale> batch) throws InterruptedException {
+        PendingSale first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+            batch.add(first);
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+        }
+    }
+
+    // 쓰기 스레드가 중단되면 더 받지 않고, 남은 기록을 기다리는 호출자에게 실패를 알린다
+    private void failPending() {
+        markClosed();
+        List<PendingSale> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.forEach(sale -> sale.durable().completeExceptionally(new IllegalStateException(JOURNAL_CLOSED_ERROR)));
+    }
+
+    private synchronized void commitBatch(List<PendingSale> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            appendDurably(batch);
+        } catch (IOException | RuntimeException e) {
+            batch.forEach(sale -> sale.durable().completeExceptionally(e));
+            return;
+        }
+        batch.forEach(this::applyToLedger);
+        batch.forEach(sale -> sale.durable().complete(null));
+        compactIfNeeded(batch.size());
+    }
+
+    // 쓰다가 실패하면 이번 묶음의 프레임을 잘라낸다. 실패로 알린 판매가 재시작할 때 재생되지 않게 한다
+    private void appendDurably(List<PendingSale> batch) throws IOException {
+        long start = channel.position();
+        long startSequence = lastSequence;
+        try {
+            writeFrames(batch);
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            lastSequence = startSequence;
+            discardFrom(start, e);
+            throw e;
+        }
+    }
+
+    private void discardFrom(long position, Exception cause) {
+        try {
+            channel.truncate(position);
+            channel.position(position);
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private void writeFrames(List<PendingSale> batch) throws IOException {
+        ByteBuffer[] frames = new ByteBuffer[batch.size()];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = JournalFile.frame(++lastSequence, batch.get(i).record().encode());
+        }
+        while (frames[frames.length - 1].hasRemaining()) {
+            channel.write(frames);
+        }
+    }
+
+    private void applyToLedger(PendingSale sale) {
+        sale.record().deltas().forEach(delta -> Recovery.applyDelta(ledger.get(delta.key()), delta.soldQuantity()));
+    }
+
+    // 압축에 실패해도 저널은 그대로 남아 있으므로 판매는 영속화된 것이다. 실패를 알리고 다음 묶음 뒤에 다시 압축한다
+    private void compactIfNeeded(int committed) {
+        recordsSinceCheckpoint += committed;
+        if (recordsSinceCheckpoint < compactionInterval) {
+            return;
+        }
+        try {
+            compact(ledger);
+        } catch (IOException | UncheckedIOException e) {
+            errors.printf(COMPACTION_ERROR_FORMAT, e.getMessage());
+        }
+    }
+
+    /*
+     * 바뀐 카탈로그로 장부를 옮기고, 바뀐 원본 파일 기준의 체크포인트를 바로 남긴다.
+     * 이미 있던 상품은 저널까지 반영된 재고를, 새로 생긴 상품은 파일의 재고를 이어받는다.
+     * 체크포인트를 쓰지 못하면 장부는 그대로 두고 예외를 던져 교체를 멈춘다.
+     */
+    @Override
+    public synchronized void catalogSwapped(Products products) {
+        Map<StockKey, Product> migrated = Recovery.copyLedger(products);
+        migrated.forEach((key, product) -> carryOver(ledger.get(key), product));
+        try {
+            compact(migrated);
+        } catch (IOException e) {
+            throw new IllegalStateException(JOURNAL_WRITE_ERROR, e);
+        }
+        ledger = migrated;
+    }
+
+    private static void carryOver(Product previous, Product product) {
+        if (previous != null) {
+            product.restoreQuantity(previous.quantityValue());
+        }
+    }
+
+    // 체크포인트를 원자적으로 교체한 뒤 저널을 비운다. 그 사이에 멈춰도 순번 비교로 중복 적용을 막는다
+    private void compact(Map<StockKey, Product> rows) throws IOException {
+        Path checkpoint = directory.resolve(CHECKPOINT_PREFIX + lastSequence + CHECKPOINT_SUFFIX);
+        Path temp = directory.resolve(checkpoint.getFileName() + TEMP_SUFFIX);
+        CatalogSnapshot.writeProducts(temp, SourceStamp.of(source), new ArrayList<>(rows.values()));
+        Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel.truncate(0);
+        channel.force(true);
+        deleteCheckpointsBefore(lastSequence);
+        recordsSinceCheckpoint = 0;
+    }
+
+    private void deleteCheckpointsBefore(long sequence) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> checkpointSequence(file).filter(found -> found < sequence).isPresent())
+                    .forEach(StockJournal::deleteQuietly);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static Optional<Long> checkpointSequence(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(CHECKPOINT_PREFIX) || !name.endsWith(CHECKPOINT_SUFFIX)) {
+            return Optional.empty();
+        }
+        String sequence = name.substring(CHECKPOINT_PREFIX.length(), name.length() - CHECKPOINT_SUFFIX.length());
+        try {
+            return Optional.of(Long.parseLong(sequence));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void close() {
+        markClosed();
+        try {
+            writer.join();
+            channel.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            throw new IllegalStateException(JOURNAL_WRITE_ERROR, e);
+        }
+    }
+
+    private record PendingSale(SaleRecord record, CompletableFuture<Void> durable) {
+        PendingSale(SaleRecord record) {
+            this(record, new CompletableFuture<>());
+        }
+    }
+
+    private record Recovery(FileChannel channel, Map<StockKey, Product> ledger, long lastSequence) {
+        static Recovery run(Path directory, Path source, Products products) throws IOException {
+            long checkpointSequence = restoreCheckpoint(directory, source, products);
+            FileChannel channel = FileChannel.open(directory.resolve(JOURNAL_FILE), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long[] lastSequence = {checkpointSequence};
+            long validEnd = JournalFile.replay(channel, (sequence, payload) -> {
+                replayFrame(sequence, payload, checkpointSequence, products);
+                lastSequence[0] = Math.max(lastSequence[0], sequence);
+            });
+            channel.truncate(validEnd);
+            channel.position(validEnd);
+            return new Recovery(channel, copyLedger(products), lastSequence[0]);
+        }
+
+        // 원본 상품 파일이 바뀌어 체크포인트가 낡았으면 새 파일을 기준으로 삼고 체크포인트 이후 판매만 재생한다
+        private static long restoreCheckpoint(Path directory, Path source, Products products) throws IOException {
+            Optional<Path> latest = latestCheckpoint(directory);
+            if (latest.isEmpty()) {
+                return 0;
+            }
+            CatalogSnapshot.readProducts(latest.get(), SourceStamp.of(source))
+                    .ifPresent(rows -> rows.forEach(row -> restoreRow(row, products)));
+            return checkpointSequence(latest.get()).orElse(0L);
+        }
+
+        private static Optional<Path> latestCheckpoint(Path directory) throws IOException {
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.filter(file -> checkpointSequence(file).isPresent())
+                        .max((left, right) -> Long.compare(checkpointSequence(left).orElseThrow(),
+                                checkpointSequence(right).orElseThrow()));
+            }
+        }
+
+        private static void restoreRow(Product row, Products products) {
+            Product product = StockKey.of(row).findIn(products);
+            if (product != null) {
+                product.restoreQuantity(row.quantityValue());
+            }
+        }
+
+        private static void replayFrame(long sequence, ByteBuffer payload, long checkpointSequence,
+                                        Products products) {
+            if (sequence <= checkpointSequence) {
+                return;
+            }
+            SaleRecord.decode(payload).deltas()
+                    .forEach(delta -> applyDelta(delta.key().findIn(products), delta.soldQuantity()));
+        }
+
+        static void applyDelta(Product product, int soldQuantity) {
+            if (product != null) {
+                product.restoreQuantity(Math.max(0, product.quantityValue() - soldQuantity));
+            }
+        }
+
+        private static Map<StockKey, Product> copyLedger(Products products) {
+            Map<StockKey, Product> ledger = new LinkedHashMap<>();
+            products.productsValue().forEach(product -> ledger.putIfAbsent(StockKey.of(product), new Product(
+                    product.nameValue(), product.priceValue(), product.quantityValue(),
+                    product.promotionNameValue())));
+            return ledger;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package store.journal;
+
+import store.domain.product.Product;
+import store.domain.product.Products;
+
+// 저널에서 상품 재고 한 줄을 가리키는 키: 상품명과 프로모션 재고 여부
+public record StockKey(String name, boolean promotional) {
+    public static StockKey of(Product product) {
+        return new StockKey(product.nameValue(), product.hasPromotion());
+    }
+
+    public Product findIn(Products products) {
+        if (promotional) {
+            return products.findPromotionProduct(name);
+        }
+        return products.findNormalProduct(name);
+    }
+}
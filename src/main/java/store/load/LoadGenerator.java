@@ -0,0 +1,155 @@
+package store.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import store.FileLoader;
+import store.domain.order.CheckoutResult;
+import store.domain.order.OrderLines;
+import store.domain.product.Products;
+import store.domain.reservation.ReservationRegistry;
+import store.metrics.EventCounter;
+import store.metrics.LatencyTimer;
+import store.metrics.MetricsRegistry;
+import store.metrics.MetricsSnapshot;
+import store.service.Catalog;
+import store.service.CatalogHolder;
+import store.service.CheckoutEngine;
+import store.service.OrderService;
+import store.service.PromotionService;
+import store.service.SalesRecorder;
+
+/*
+ * 합성 카탈로그 위에서 여러 계산대가 동시에 결제하는 부하를 만든다.
+ * 계산대마다 스레드 하나가 주문을 만들고, 콘솔과 같은 CheckoutEngine 흐름(증정 추가 → 예약 → 정가 구매 → 멤버십 → 확정)을
+ * 고객 답을 확률로 정해 돌린다. 결제 한 번의 지연 시간은 지표 히스토그램에, 판매량은 재고 점검에 남긴다.
+ * 실행: ./gradlew loadTest -Pstore.load.orders=500000 -Pstore.load.concurrency=8 (설정은 LoadProfile 참고)
+ */
+public class LoadGenerator implements AutoCloseable {
+    private static final Duration HOLD_TIME = Duration.ofMinutes(5);
+    private static final String STOCK_MISMATCH_ERROR = "부하 뒤 재고가 판매량과 맞지 않습니다.";
+    private static final String LANE_ERROR = "계산대 스레드가 실패했습니다.";
+    private static final String COMPLETED_COUNTER = "load.completed";
+
+    private final LoadProfile profile;
+    private final Products products;
+    private final ReservationRegistry reservations = new ReservationRegistry();
+    private final CheckoutEngine checkoutEngine;
+    private final StockAudit audit;
+    private final MetricsRegistry metrics = MetricsRegistry.enabled();
+    private final LatencyTimer checkoutTimer = metrics.timer("load.checkout");
+    private final EventCounter completed = metrics.counter(COMPLETED_COUNTER);
+    private final EventCounter declined = metrics.counter("load.declined");
+    private final EventCounter rejected = metrics.counter("load.rejected");
+    private final AtomicInteger remainingOrders;
+
+    public LoadGenerator(LoadProfile profile, Catalog catalog) {
+        this.profile = profile;
+        this.products = catalog.products();
+        OrderService orderService = new OrderService(new CatalogHolder(catalog), reservations, SalesRecorder.NONE);
+        this.checkoutEngine = new CheckoutEngine(orderService, HOLD_TIME);
+        this.audit = StockAudit.begin(products);
+        this.remainingOrders = new AtomicInteger(profile.orderCount());
+    }
+
+    // 합성 파일을 쓰고 실제 적재 경로(FileLoader)로 다시 읽어 카탈로그를 만든다
+    public static LoadGenerator open(Path directory, LoadProfile profile) {
+        Path productsFile = SyntheticStore.writeProducts(directory, profile);
+        Path promotionsFile = SyntheticStore.writePromotions(directory);
+        Catalog catalog = new Catalog(new Products(FileLoader.loadProducts(productsFile)),
+                new PromotionService(FileLoader.loadPromotions(promotionsFile)));
+        return new LoadGenerator(profile, catalog);
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        Path directory = Files.createTempDirectory("store-load");
+        LoadReport report;
+        try (LoadGenerator generator = open(directory, profile)) {
+            report = generator.run();
+        } finally {
+            SyntheticStore.deleteCatalog(directory);
+        }
+        report.describe().forEach(System.out::println);
+        if (!report.isConsistent()) {
+            throw new IllegalStateException(STOCK_MISMATCH_ERROR);
+        }
+    }
+
+    // 주문 준비(순위표, 누적 분포)는 시간을 재기 전에 끝낸다. 계산대마다 시드에서 갈라진 난수를 쓴다
+    public LoadReport run() {
+        String[] productsByRank = ShoppingTraffic.rankProducts(profile.productCount(), profile.seed());
+        ZipfDistribution popularity = new ZipfDistribution(profile.productCount(), profile.popularitySkew());
+        ExecutorService executor = Executors.newFixedThreadPool(profile.concurrency());
+        long startedAt = System.nanoTime();
+        awaitAll(startLanes(executor, productsByRank, popularity));
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+        return report(elapsedNanos);
+    }
+
+    private List<Future<?>> startLanes(ExecutorService executor, String[] productsByRank,
+                                       ZipfDistribution popularity) {
+        SplittableRandom seeds = new SplittableRandom(profile.seed());
+        List<Future<?>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < profile.concurrency(); lane++) {
+            SplittableRandom random = seeds.split();
+            ShoppingTraffic traffic = new ShoppingTraffic(profile, popularity, productsByRank, random);
+            lanes.add(executor.submit(() -> runLane(traffic, new RandomCustomer(profile, random))));
+        }
+        return lanes;
+    }
+
+    private void runLane(ShoppingTraffic traffic, RandomCustomer customer) {
+        while (remainingOrders.getAndDecrement() > 0) {
+            OrderLines order = traffic.nextOrder();
+            long startedAt = checkoutTimer.start();
+            CheckoutResult result = checkoutEngine.checkout(order, customer);
+            checkoutTimer.stop(startedAt);
+            record(result);
+        }
+    }
+
+    private void record(CheckoutResult result) {
+        if (result.isCompleted()) {
+            completed.increment();
+            audit.recordSale(result.receipt());
+            return;
+        }
+        if (result.isRejected()) {
+            rejected.increment();
+            return;
+        }
+        declined.increment();
+    }
+
+    private static void awaitAll(List<Future<?>> lanes) {
+        try {
+            for (Future<?> lane : lanes) {
+                lane.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(LANE_ERROR, e);
+        }
+    }
+
+    private LoadReport report(long elapsedNanos) {
+        MetricsSnapshot snapshot = metrics.snapshot();
+        return new LoadReport(profile, elapsedNanos, snapshot.counts().get(COMPLETED_COUNTER), audit.totalSold(),
+                snapshot, audit.verify(reservations));
+    }
+
+    @Override
+    public void close() {
+        reservations.close();
+    }
+}
@@ -0,0 +1,56 @@
+package store.load;
+
+// 부하 생성기 설정. store.load.* 시스템 속성으로 바꾸고, 없으면 기본값을 쓴다
+public record LoadProfile(int productCount, int stockPerProduct, int orderCount, int concurrency,
+                          double popularitySkew, OrderSizeDistribution orderSizes, int maxQuantity,
+                          double giftAcceptRate, double regularPriceAcceptRate, double membershipRate,
+                          long seed) {
+    private static final String PROPERTY_PREFIX = "store.load.";
+    private static final String DEFAULT_ORDER_SIZES = "1:40,2:30,3:15,5:10,10:5";
+    private static final String POSITIVE_ERROR = "%s 은(는) 1 이상이어야 합니다.";
+    private static final String RATE_ERROR = "%s 은(는) 0 과 1 사이여야 합니다.";
+
+    public LoadProfile {
+        validatePositive("products", productCount);
+        validatePositive("stock", stockPerProduct);
+        validatePositive("orders", orderCount);
+        validatePositive("concurrency", concurrency);
+        validatePositive("quantity", maxQuantity);
+        validateRate("gift", giftAcceptRate);
+        validateRate("regularPrice", regularPriceAcceptRate);
+        validateRate("membership", membershipRate);
+    }
+
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(intProperty("products", 10_000), intProperty("stock", 200_000),
+                intProperty("orders", 200_000), intProperty("concurrency", Runtime.getRuntime().availableProcessors()),
+                doubleProperty("skew", 1.1),
+                OrderSizeDistribution.parse(System.getProperty(PROPERTY_PREFIX + "lines", DEFAULT_ORDER_SIZES)),
+                intProperty("quantity", 5), doubleProperty("gift", 0.7), doubleProperty("regularPrice", 0.8),
+                doubleProperty("membership", 0.5), Long.getLong(PROPERTY_PREFIX + "seed", 42L));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(PROPERTY_PREFIX + name, defaultValue);
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        if (value == null) {
+            return defaultValue;
+        }
+        return Double.parseDouble(value);
+    }
+
+    private static void validatePositive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(String.format(POSITIVE_ERROR, PROPERTY_PREFIX + name));
+        }
+    }
+
+    private static void validateRate(String name, double value) {
+        if (!(value >= 0 && value <= 1)) {
+            throw new IllegalArgumentException(String.format(RATE_ERROR, PROPERTY_PREFIX + name));
+        }
+    }
+}
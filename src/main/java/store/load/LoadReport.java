@@ -0,0 +1,43 @@
+package store.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import store.metrics.MetricsSnapshot;
+
+// 부하 한 번의 결과: 결제 지연 시간과 결과별 건수, 처리량, 재고 점검에서 나온 오류. 처리량은 결제를 마친 주문만 센다
+public record LoadReport(LoadProfile profile, long elapsedNanos, long completedCount, long soldQuantity,
+                         MetricsSnapshot metrics, List<String> stockErrors) {
+    private static final String PROFILE_FORMAT = "[부하] 상품 %d종 x %d개, 계산대 %d개, 주문 %d건, 주문 크기 %s, 인기 편중 %.2f";
+    private static final String THROUGHPUT_FORMAT = "[부하] %.2f초 동안 초당 %.0f건 결제 완료 (시도 %d건 중 %d건), 판매 수량 %d개";
+    private static final String CONSISTENT = "[부하] 재고 점검 통과";
+    private static final String INCONSISTENT_PREFIX = "[부하] 재고 점검 실패: ";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    public boolean isConsistent() {
+        return stockErrors.isEmpty();
+    }
+
+    public double completedPerSecond() {
+        return completedCount / (elapsedNanos / NANOS_PER_SECOND);
+    }
+
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, PROFILE_FORMAT, profile.productCount(), profile.stockPerProduct(),
+                profile.concurrency(), profile.orderCount(), profile.orderSizes(), profile.popularitySkew()));
+        lines.add(String.format(Locale.ROOT, THROUGHPUT_FORMAT, elapsedNanos / NANOS_PER_SECOND, completedPerSecond(),
+                profile.orderCount(), completedCount, soldQuantity));
+        lines.addAll(metrics.describe());
+        describeStock(lines);
+        return lines;
+    }
+
+    private void describeStock(List<String> lines) {
+        if (isConsistent()) {
+            lines.add(CONSISTENT);
+            return;
+        }
+        stockErrors.forEach(error -> lines.add(INCONSISTENT_PREFIX + error));
+    }
+}
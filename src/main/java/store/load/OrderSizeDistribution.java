@@ -0,0 +1,61 @@
+package store.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// 주문 한 건에 담는 상품 종류 수의 분포. "종류수:가중치" 를 쉼표로 이어 쓴다 (예: 1:40,2:30,3:15)
+public final class OrderSizeDistribution {
+    private static final String FORMAT_ERROR = "주문 크기 분포는 '종류수:가중치' 를 쉼표로 이어 써야 합니다: %s";
+    private static final String ITEM_DELIMITER = ",";
+    private static final String WEIGHT_DELIMITER = ":";
+
+    private final String spec;
+    private final int[] lineCounts;
+    private final long[] cumulativeWeights;
+
+    private OrderSizeDistribution(String spec, int[] lineCounts, long[] cumulativeWeights) {
+        this.spec = spec;
+        this.lineCounts = lineCounts;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    public static OrderSizeDistribution parse(String spec) {
+        String[] items = spec.split(ITEM_DELIMITER);
+        int[] lineCounts = new int[items.length];
+        long[] cumulativeWeights = new long[items.length];
+        long total = 0;
+        for (int i = 0; i < items.length; i++) {
+            String[] parts = items[i].trim().split(WEIGHT_DELIMITER);
+            lineCounts[i] = parsePositive(spec, parts, 0);
+            total += parsePositive(spec, parts, 1);
+            cumulativeWeights[i] = total;
+        }
+        return new OrderSizeDistribution(spec, lineCounts, cumulativeWeights);
+    }
+
+    private static int parsePositive(String spec, String[] parts, int index) {
+        try {
+            int value = Integer.parseInt(parts[index].trim());
+            if (parts.length == 2 && value > 0) {
+                return value;
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException ignored) {
+        }
+        throw new IllegalArgumentException(String.format(FORMAT_ERROR, spec));
+    }
+
+    // 가중치 합 안에서 하나를 뽑아 그 값을 처음 넘는 칸의 종류 수를 돌려준다
+    public int sample(SplittableRandom random) {
+        long pick = random.nextLong(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, pick + 1);
+        if (index < 0) {
+            return lineCounts[-index - 1];
+        }
+        return lineCounts[index];
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,30 @@
+package store.load;
+
+import java.util.SplittableRandom;
+import store.service.CustomerPolicy;
+
+// 증정 추가, 정가 구매, 멤버십 질문에 설정한 비율대로 "예" 라고 답하는 고객
+final class RandomCustomer implements CustomerPolicy {
+    private final LoadProfile profile;
+    private final SplittableRandom random;
+
+    RandomCustomer(LoadProfile profile, SplittableRandom random) {
+        this.profile = profile;
+        this.random = random;
+    }
+
+    @Override
+    public boolean acceptAdditionalGift(String productName, int giftQuantity) {
+        return random.nextDouble() < profile.giftAcceptRate();
+    }
+
+    @Override
+    public boolean acceptNonPromotionalPurchase(String productName, int quantity) {
+        return random.nextDouble() < profile.regularPriceAcceptRate();
+    }
+
+    @Override
+    public boolean useMembership() {
+        return random.nextDouble() < profile.membershipRate();
+    }
+}
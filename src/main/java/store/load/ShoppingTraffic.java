@@ -0,0 +1,45 @@
+package store.load;
+
+import java.util.SplittableRandom;
+import store.domain.order.OrderLines;
+
+/*
+ * 계산대 하나가 받는 주문을 만든다. 담을 상품 종류 수는 주문 크기 분포에서, 상품은 인기 순위를 Zipf 로 뽑는다.
+ * 인기 순위와 상품 번호는 섞어 두어 프로모션 상품이 인기 상품에 몰리지 않게 한다. 같은 상품을 다시 뽑으면 그 줄의 수량만 바꾼다.
+ */
+final class ShoppingTraffic {
+    private final LoadProfile profile;
+    private final ZipfDistribution popularity;
+    private final String[] productsByRank;
+    private final SplittableRandom random;
+
+    ShoppingTraffic(LoadProfile profile, ZipfDistribution popularity, String[] productsByRank,
+                    SplittableRandom random) {
+        this.profile = profile;
+        this.popularity = popularity;
+        this.productsByRank = productsByRank;
+        this.random = random;
+    }
+
+    // 순위 → 상품명 표. 시드가 같으면 모든 계산대가 같은 표를 쓴다
+    static String[] rankProducts(int productCount, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        String[] products = new String[productCount];
+        for (int i = 0; i < productCount; i++) {
+            int swap = random.nextInt(i + 1);
+            products[i] = products[swap];
+            products[swap] = SyntheticStore.productName(i);
+        }
+        return products;
+    }
+
+    OrderLines nextOrder() {
+        int lineCount = Math.min(profile.orderSizes().sample(random), profile.productCount());
+        OrderLines.Builder order = new OrderLines.Builder();
+        for (int line = 0; line < lineCount; line++) {
+            String name = productsByRank[popularity.sample(random)];
+            order.add(name, random.nextInt(1, profile.maxQuantity() + 1));
+        }
+        return order.build();
+    }
+}
@@ -0,0 +1,86 @@
+package store.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import store.domain.product.Product;
+import store.domain.product.Products;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptItem;
+import store.domain.reservation.ReservationRegistry;
+
+/*
+ * 부하 전 재고와 영수증의 판매량을 상품 번호별로 모아 두었다가, 끝난 뒤 남은 재고와 맞춰 본다.
+ *  - 상품마다 시작 재고 - 판매량(증정 포함) = 남은 재고
+ *  - 음수 재고 없음
+ *  - 확정도 취소도 안 된 예약 없음
+ */
+final class StockAudit {
+    private static final String MISMATCH_FORMAT = "%s 재고가 맞지 않습니다: 시작 %d, 판매 %d, 남음 %d";
+    private static final String NEGATIVE_FORMAT = "음수 재고 상품이 %d개 있습니다.";
+    private static final String HELD_FORMAT = "풀리지 않은 예약이 %d건 있습니다.";
+    private static final int MAX_REPORTED_MISMATCHES = 10;
+
+    private final Products products;
+    private final long[] initialStock;
+    private final AtomicLongArray sold;
+
+    private StockAudit(Products products, long[] initialStock) {
+        this.products = products;
+        this.initialStock = initialStock;
+        this.sold = new AtomicLongArray(initialStock.length);
+    }
+
+    static StockAudit begin(Products products) {
+        return new StockAudit(products, stockByProduct(products));
+    }
+
+    private static long[] stockByProduct(Products products) {
+        long[] stock = new long[products.productsValue().size()];
+        for (Product product : products.productsValue()) {
+            stock[products.productIdOf(product.nameValue())] += product.quantityValue();
+        }
+        return stock;
+    }
+
+    void recordSale(Receipt receipt) {
+        for (ReceiptItem item : receipt.itemsValue()) {
+            sold.addAndGet(products.productIdOf(item.nameValue()), item.quantityValue());
+        }
+    }
+
+    List<String> verify(ReservationRegistry reservations) {
+        List<String> errors = findMismatches(stockByProduct(products));
+        int negative = products.countQuantityBelow(0);
+        if (negative > 0) {
+            errors.add(String.format(NEGATIVE_FORMAT, negative));
+        }
+        if (reservations.heldCount() > 0) {
+            errors.add(String.format(HELD_FORMAT, reservations.heldCount()));
+        }
+        return errors;
+    }
+
+    private List<String> findMismatches(long[] remaining) {
+        List<String> errors = new ArrayList<>();
+        for (int id = 0; id < remaining.length && errors.size() < MAX_REPORTED_MISMATCHES; id++) {
+            if (initialStock[id] - sold.get(id) != remaining[id]) {
+                errors.add(String.format(MISMATCH_FORMAT, nameOf(id), initialStock[id], sold.get(id),
+                        remaining[id]));
+            }
+        }
+        return errors;
+    }
+
+    private String nameOf(int productId) {
+        return products.groupOf(productId).firstProduct().orElseThrow().nameValue();
+    }
+
+    long totalSold() {
+        long total = 0;
+        for (int id = 0; id < sold.length(); id++) {
+            total += sold.get(id);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,83 @@
+package store.load;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/*
+ * products.md/promotions.md 형식의 합성 카탈로그 파일을 디렉터리에 쓴다.
+ * 세 상품마다 하나는 프로모션 재고를 함께 갖고, 프로모션 하나는 이미 끝나 정가로 팔린다.
+ * 진행 중인 프로모션은 언제 돌리든 걸리도록 기간을 넓게 잡는다.
+ */
+public final class SyntheticStore {
+    private static final String PRODUCTS_FILE = "products.md";
+    private static final String PROMOTIONS_FILE = "promotions.md";
+    private static final String PRODUCTS_HEADER = "name,price,quantity,promotion";
+    private static final List<String> PROMOTION_ROWS = List.of(
+            "name,buy,get,start_date,end_date",
+            "탄산2+1,2,1,2000-01-01,2999-12-31",
+            "MD추천상품,1,1,2000-01-01,2999-12-31",
+            "반짝할인,1,1,2000-01-01,2999-12-31",
+            "지난할인,1,1,2000-01-01,2000-12-31");
+    private static final String[] PROMOTIONS = {"탄산2+1", "MD추천상품", "반짝할인", "지난할인"};
+    private static final int PROMOTION_INTERVAL = 3;
+
+    private SyntheticStore() {
+    }
+
+    public static Path writeProducts(Path directory, LoadProfile profile) {
+        Path file = directory.resolve(PRODUCTS_FILE);
+        SplittableRandom random = new SplittableRandom(profile.seed());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeLine(writer, PRODUCTS_HEADER);
+            for (int i = 0; i < profile.productCount(); i++) {
+                writeProduct(writer, i, (random.nextInt(90) + 1) * 100, profile.stockPerProduct());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return file;
+    }
+
+    private static void writeProduct(BufferedWriter writer, int index, int price, int quantity) throws IOException {
+        String row = productName(index) + "," + price + "," + quantity + ",";
+        if (index % PROMOTION_INTERVAL == 0) {
+            writeLine(writer, row + PROMOTIONS[(index / PROMOTION_INTERVAL) % PROMOTIONS.length]);
+        }
+        writeLine(writer, row + "null");
+    }
+
+    public static Path writePromotions(Path directory) {
+        Path file = directory.resolve(PROMOTIONS_FILE);
+        try {
+            return Files.write(file, PROMOTION_ROWS, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer, String line) throws IOException {
+        writer.write(line);
+        writer.newLine();
+    }
+
+    // 합성 파일을 쓴 디렉터리를 통째로 지운다
+    public static void deleteCatalog(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    public static String productName(int index) {
+        return "상품" + index;
+    }
+}
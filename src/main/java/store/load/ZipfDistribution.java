@@ -0,0 +1,27 @@
+package store.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// 순위 k(0부터) 가 뽑힐 확률이 1/(k+1)^skew 에 비례한다. 누적 분포를 한 번 만들어 두고 이진 탐색으로 뽑는다
+public final class ZipfDistribution {
+    private final double[] cumulative;
+
+    public ZipfDistribution(int size, double skew) {
+        this.cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+    }
+
+    public int sample(SplittableRandom random) {
+        double pick = random.nextDouble() * cumulative[cumulative.length - 1];
+        int rank = Arrays.binarySearch(cumulative, pick);
+        if (rank < 0) {
+            return Math.min(-rank - 1, cumulative.length - 1);
+        }
+        return rank;
+    }
+}
@@ -0,0 +1,211 @@
+package store.loader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import store.domain.product.Product;
+import store.domain.promotion.Promotion;
+
+/*
+ * 상품/프로모션 목록의 바이너리 스냅샷.
+ * 헤더(48바이트): magic, version, kind, 원본 크기, 원본 수정 시각, 레코드 수, 이름 수, 본문 길이, 본문 CRC32
+ * 본문: 이름 테이블([길이][UTF-8 바이트] 반복) 뒤에 고정 길이 레코드가 이어진다.
+ *   상품 레코드(16바이트): 이름 번호, 가격, 수량, 프로모션 이름 번호
+ *   프로모션 레코드(20바이트): 이름 번호, buy, get, 시작일(epoch day), 종료일(epoch day)
+ */
+public final class CatalogSnapshot {
+    private static final int MAGIC = 0x57535431;
+    private static final int VERSION = 2;
+    private static final int PRODUCT_KIND = 1;
+    private static final int PROMOTION_KIND = 2;
+    private static final int HEADER_SIZE = 48;
+
+    private CatalogSnapshot() {
+    }
+
+    public static void writeProducts(Path snapshot, SourceStamp source, List<Product> products) throws IOException {
+        NameTable names = new NameTable();
+        products.forEach(product -> names.register(product.nameValue(), product.promotionNameValue()));
+        write(snapshot, new Header(PRODUCT_KIND, source, products.size(), names.size()), names, output -> {
+            for (Product product : products) {
+                output.writeInt(names.idOf(product.nameValue()));
+                output.writeInt(product.priceValue());
+                output.writeInt(product.quantityValue());
+                output.writeInt(names.idOf(product.promotionNameValue()));
+            }
+        });
+    }
+
+    public static void writePromotions(Path snapshot, SourceStamp source, Map<String, Promotion> promotions)
+            throws IOException {
+        NameTable names = new NameTable();
+        promotions.values().forEach(promotion -> names.register(promotion.nameValue()));
+        write(snapshot, new Header(PROMOTION_KIND, source, promotions.size(), names.size()), names, output -> {
+            for (Promotion promotion : promotions.values()) {
+                output.writeInt(names.idOf(promotion.nameValue()));
+                output.writeInt(promotion.buyQuantityValue());
+                output.writeInt(promotion.giftQuantityValue());
+                output.writeInt((int) promotion.startDateValue().toEpochDay());
+                output.writeInt((int) promotion.endDateValue().toEpochDay());
+            }
+        });
+    }
+
+    public static Optional<List<Product>> readProducts(Path snapshot, SourceStamp source) throws IOException {
+        return read(snapshot, PRODUCT_KIND, source).map(CatalogSnapshot::decodeProducts);
+    }
+
+    public static Optional<List<Promotion>> readPromotions(Path snapshot, SourceStamp source) throws IOException {
+        return read(snapshot, PROMOTION_KIND, source).map(CatalogSnapshot::decodePromotions);
+    }
+
+    private static List<Product> decodeProducts(Body body) {
+        List<Product> products = new ArrayList<>(body.recordCount());
+        ByteBuffer buffer = body.buffer();
+        for (int i = 0; i < body.recordCount(); i++) {
+            products.add(new Product(body.name(buffer.getInt()), buffer.getInt(), buffer.getInt(),
+                    body.name(buffer.getInt())));
+        }
+        return products;
+    }
+
+    private static List<Promotion> decodePromotions(Body body) {
+        List<Promotion> promotions = new ArrayList<>(body.recordCount());
+        ByteBuffer buffer = body.buffer();
+        for (int i = 0; i < body.recordCount(); i++) {
+            promotions.add(new Promotion(body.name(buffer.getInt()), buffer.getInt(), buffer.getInt(),
+                    LocalDate.ofEpochDay(buffer.getInt()), LocalDate.ofEpochDay(buffer.getInt())));
+        }
+        return promotions;
+    }
+
+    private static void write(Path snapshot, Header header, NameTable names, RecordWriter records)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(HEADER_SIZE);
+            CRC32 crc = new CRC32();
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                    new CheckedOutputStream(Channels.newOutputStream(channel), crc)));
+            names.writeTo(output);
+            records.write(output);
+            output.flush();
+            channel.write(header.encode(channel.size() - HEADER_SIZE, (int) crc.getValue()), 0);
+        }
+    }
+
+    private static Optional<Body> read(Path snapshot, int kind, SourceStamp source) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE || channel.size() > Integer.MAX_VALUE) {
+                return Optional.empty();
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Header.decode(buffer)
+                    .filter(header -> header.matches(kind, source, buffer))
+                    .map(header -> Body.decode(header, buffer));
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream output) throws IOException;
+    }
+
+    private record Header(int kind, SourceStamp source, int recordCount, int nameCount, long bodyLength, int bodyCrc) {
+        Header(int kind, SourceStamp source, int recordCount, int nameCount) {
+            this(kind, source, recordCount, nameCount, 0, 0);
+        }
+
+        ByteBuffer encode(long length, int crc) {
+            return ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC).putInt(VERSION).putInt(kind)
+                    .putLong(source.size()).putLong(source.lastModifiedMillis())
+                    .putInt(recordCount).putInt(nameCount)
+                    .putLong(length).putInt(crc)
+                    .flip();
+        }
+
+        static Optional<Header> decode(ByteBuffer buffer) {
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                return Optional.empty();
+            }
+            return Optional.of(new Header(buffer.getInt(8),
+                    new SourceStamp(buffer.getLong(12), buffer.getLong(20)),
+                    buffer.getInt(28), buffer.getInt(32), buffer.getLong(36), buffer.getInt(44)));
+        }
+
+        boolean matches(int expectedKind, SourceStamp expectedSource, ByteBuffer buffer) {
+            return kind == expectedKind
+                    && source.equals(expectedSource)
+                    && bodyLength == buffer.capacity() - HEADER_SIZE
+                    && bodyCrc == crcOf(buffer);
+        }
+
+        private static int crcOf(ByteBuffer buffer) {
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE));
+            return (int) crc.getValue();
+        }
+    }
+
+    private record Body(int recordCount, String[] names, ByteBuffer buffer) {
+        static Body decode(Header header, ByteBuffer buffer) {
+            ByteBuffer body = buffer.slice(HEADER_SIZE, buffer.capacity() - HEADER_SIZE);
+            String[] names = new String[header.nameCount()];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = decodeName(body);
+            }
+            return new Body(header.recordCount(), names, body);
+        }
+
+        private static String decodeName(ByteBuffer body) {
+            byte[] bytes = new byte[body.getInt()];
+            body.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        String name(int id) {
+            return names[id];
+        }
+    }
+
+    private static class NameTable {
+        private final Map<String, Integer> ids = new LinkedHashMap<>();
+
+        void register(String... names) {
+            for (String name : names) {
+                ids.putIfAbsent(name, ids.size());
+            }
+        }
+
+        int idOf(String name) {
+            return ids.get(name);
+        }
+
+        int size() {
+            return ids.size();
+        }
+
+        void writeTo(DataOutputStream output) throws IOException {
+            for (String name : ids.keySet()) {
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package store.loader;
+
+public interface ChunkSink<T> extends RowHandler {
+    T result();
+}
@@ -0,0 +1,203 @@
+package store.loader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+// 매핑된 버퍼 위에서 한 줄을 복사 없이 읽는 재사용 커서
+public class CsvRow {
+    private static final byte DELIMITER = ',';
+    private static final int MAX_FIELDS = 16;
+    private static final int DATE_LENGTH = 10;
+
+    private final Utf8Interner interner;
+    private final int[] fieldStarts = new int[MAX_FIELDS];
+    private final int[] fieldEnds = new int[MAX_FIELDS];
+    private byte[] lastBytes = new byte[64];
+    private int lastLength = -1;
+    private String lastText;
+    private ByteBuffer buffer;
+    private long lineNumber;
+    private int fieldCount;
+    private boolean blank;
+
+    public CsvRow(Utf8Interner interner) {
+        this.interner = interner;
+    }
+
+    void reset(ByteBuffer buffer, int start, int end, long lineNumber) {
+        this.buffer = buffer;
+        this.lineNumber = lineNumber;
+        this.blank = isBlank(start, end);
+        this.fieldCount = splitFields(start, trimTrailingDelimiters(start, end));
+    }
+
+    private boolean isBlank(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // String.split 과 같이 끝에 붙은 빈 필드는 필드로 세지 않는다
+    private int trimTrailingDelimiters(int start, int end) {
+        int trimmed = end;
+        while (trimmed > start && buffer.get(trimmed - 1) == DELIMITER) {
+            trimmed--;
+        }
+        return trimmed;
+    }
+
+    private int splitFields(int start, int end) {
+        int count = 0;
+        int fieldStart = start;
+        for (int i = start; i < end && count < MAX_FIELDS; i++) {
+            if (buffer.get(i) == DELIMITER) {
+                count = addField(count, fieldStart, i);
+                fieldStart = i + 1;
+            }
+        }
+        return addField(count, fieldStart, end);
+    }
+
+    private int addField(int count, int start, int end) {
+        if (count >= MAX_FIELDS) {
+            return count + 1;
+        }
+        fieldStarts[count] = start;
+        fieldEnds[count] = end;
+        return count + 1;
+    }
+
+    public boolean isBlank() {
+        return blank;
+    }
+
+    public int fieldCount() {
+        return fieldCount;
+    }
+
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    public String text(int field) {
+        return interner.intern(buffer, fieldStarts[field], fieldEnds[field]);
+    }
+
+    // 상품명처럼 값의 종류가 많지만 바로 앞 줄과 겹치기 쉬운 필드에 사용한다
+    public String repeatedText(int field) {
+        int start = fieldStarts[field];
+        int length = fieldEnds[field] - start;
+        if (length == lastLength && sameAsLast(start, length)) {
+            return lastText;
+        }
+        return rememberText(start, length);
+    }
+
+    private boolean sameAsLast(int start, int length) {
+        for (int i = 0; i < length; i++) {
+            if (lastBytes[i] != buffer.get(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String rememberText(int start, int length) {
+        if (lastBytes.length < length) {
+            lastBytes = new byte[Math.max(length, lastBytes.length * 2)];
+        }
+        buffer.get(start, lastBytes, 0, length);
+        lastLength = length;
+        lastText = new String(lastBytes, 0, length, StandardCharsets.UTF_8);
+        return lastText;
+    }
+
+    public int integer(int field) {
+        int start = skipLeadingSpaces(fieldStarts[field], fieldEnds[field]);
+        int end = skipTrailingSpaces(start, fieldEnds[field]);
+        if (start == end) {
+            throw new NumberFormatException();
+        }
+        return parseSignedInteger(start, end);
+    }
+
+    private int parseSignedInteger(int start, int end) {
+        byte first = buffer.get(start);
+        if (first == '-' || first == '+') {
+            return parseDigits(start + 1, end, first == '-');
+        }
+        return parseDigits(start, end, false);
+    }
+
+    // Integer.parseInt 와 같이 음수 누적으로 오버플로를 검사한다
+    private int parseDigits(int start, int end, boolean negative) {
+        if (start == end) {
+            throw new NumberFormatException();
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 - digit(buffer.get(i));
+            validateRange(value, negative);
+        }
+        if (negative) {
+            return (int) value;
+        }
+        return (int) -value;
+    }
+
+    private void validateRange(long value, boolean negative) {
+        if (value < Integer.MIN_VALUE || (!negative && value == Integer.MIN_VALUE)) {
+            throw new NumberFormatException();
+        }
+    }
+
+    private int digit(byte value) {
+        if (value < '0' || value > '9') {
+            throw new NumberFormatException();
+        }
+        return value - '0';
+    }
+
+    public LocalDate date(int field) {
+        int start = fieldStarts[field];
+        if (fieldEnds[field] - start != DATE_LENGTH
+                || buffer.get(start + 4) != '-' || buffer.get(start + 7) != '-') {
+            throw new DateTimeException("yyyy-MM-dd");
+        }
+        return LocalDate.of(digits(start, 4), digits(start + 5, 2), digits(start + 8, 2));
+    }
+
+    private int digits(int start, int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            value = value * 10 + digit(buffer.get(i));
+        }
+        return value;
+    }
+
+    private int skipLeadingSpaces(int start, int end) {
+        int position = start;
+        while (position < end && isWhitespace(buffer.get(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private int skipTrailingSpaces(int start, int end) {
+        int position = end;
+        while (position > start && isWhitespace(buffer.get(position - 1))) {
+            position--;
+        }
+        return position;
+    }
+
+    // String.trim 과 같은 기준: U+0020 이하의 바이트만 공백으로 본다
+    private static boolean isWhitespace(byte value) {
+        return (value & 0xFF) <= ' ';
+    }
+}
@@ -0,0 +1,4 @@
+package store.loader;
+
+public record LineRegion(long start, long end, long firstLineNumber) {
+}
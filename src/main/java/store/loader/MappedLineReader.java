@@ -0,0 +1,94 @@
+package store.loader;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 파일을 메모리 매핑 구간 단위로 읽으며 줄마다 같은 CsvRow 를 재사용한다
+public class MappedLineReader {
+    private static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final String LINE_TOO_LONG = "한 줄의 길이가 읽기 구간보다 깁니다.";
+
+    private final long windowSize;
+
+    public MappedLineReader() {
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedLineReader(long windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public void read(Path path, int headerLines, CsvRow row, RowHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            readRegion(channel, new LineRegion(0, channel.size(), 1), headerLines, row, handler);
+        }
+    }
+
+    // region 은 줄 경계에서 시작하고 끝나야 하며, 줄 번호는 region 의 첫 줄 번호부터 센다
+    public void readRegion(FileChannel channel, LineRegion region, int headerLines, CsvRow row, RowHandler handler)
+            throws IOException {
+        Cursor cursor = new Cursor(headerLines, region.firstLineNumber() - 1, row, handler);
+        long position = region.start();
+        while (position < region.end()) {
+            long length = Math.min(windowSize, region.end() - position);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            boolean lastWindow = position + length == region.end();
+            position += readWindow(window, (int) length, lastWindow, cursor);
+        }
+    }
+
+    private int readWindow(MappedByteBuffer window, int length, boolean lastWindow, Cursor cursor) {
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (window.get(i) == '\n') {
+                cursor.accept(window, lineStart, i);
+                lineStart = i + 1;
+            }
+        }
+        return finishWindow(window, lineStart, length, lastWindow, cursor);
+    }
+
+    private int finishWindow(MappedByteBuffer window, int lineStart, int length, boolean lastWindow, Cursor cursor) {
+        if (lastWindow && lineStart < length) {
+            cursor.accept(window, lineStart, length);
+            return length;
+        }
+        if (lineStart == 0 && length > 0 && !lastWindow) {
+            throw new IllegalStateException(LINE_TOO_LONG);
+        }
+        return lineStart;
+    }
+
+    private static class Cursor {
+        private final int headerLines;
+        private final CsvRow row;
+        private final RowHandler handler;
+        private long lineNumber;
+
+        Cursor(int headerLines, long lineNumber, CsvRow row, RowHandler handler) {
+            this.headerLines = headerLines;
+            this.lineNumber = lineNumber;
+            this.row = row;
+            this.handler = handler;
+        }
+
+        void accept(MappedByteBuffer window, int start, int end) {
+            lineNumber++;
+            if (lineNumber <= headerLines) {
+                return;
+            }
+            row.reset(window, start, stripCarriageReturn(window, start, end), lineNumber);
+            handler.handle(row);
+        }
+
+        private int stripCarriageReturn(MappedByteBuffer window, int start, int end) {
+            if (end > start && window.get(end - 1) == '\r') {
+                return end - 1;
+            }
+            return end;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package store.loader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+// 파일을 줄 경계에 맞춘 조각으로 나누어 fork/join 풀에서 파싱하고, 결과는 파일 순서대로 돌려준다
+public class ParallelLineReader {
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final long MAX_CHUNK_SIZE = 64L << 20;
+    private static final int CHUNKS_PER_WORKER = 4;
+    private static final int BOUNDARY_BUFFER_SIZE = 8192;
+
+    private final int parallelism;
+
+    public ParallelLineReader(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public <T> List<T> read(Path path, int headerLines, Supplier<CsvRow> rows, Supplier<ChunkSink<T>> sinks)
+            throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            List<LineRegion> regions = splitRegions(channel, pool);
+            return parseRegions(channel, pool, regions, headerLines, rows, sinks);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<LineRegion> splitRegions(FileChannel channel, ForkJoinPool pool) throws IOException {
+        long[] bounds = chunkBounds(channel);
+        long[] lineCounts = new long[bounds.length - 1];
+        runChunks(pool, lineCounts.length, chunk ->
+                lineCounts[chunk] = countLines(channel, bounds[chunk], bounds[chunk + 1]));
+        List<LineRegion> regions = new ArrayList<>();
+        long firstLineNumber = 1;
+        for (int i = 0; i < lineCounts.length; i++) {
+            regions.add(new LineRegion(bounds[i], bounds[i + 1], firstLineNumber));
+            firstLineNumber += lineCounts[i];
+        }
+        return regions;
+    }
+
+    private <T> List<T> parseRegions(FileChannel channel, ForkJoinPool pool, List<LineRegion> regions,
+                                     int headerLines, Supplier<CsvRow> rows, Supplier<ChunkSink<T>> sinks) {
+        List<T> results = new ArrayList<>(regions.size());
+        regions.forEach(region -> results.add(null));
+        MappedLineReader reader = new MappedLineReader(MAX_CHUNK_SIZE);
+        runChunks(pool, regions.size(), chunk -> {
+            ChunkSink<T> sink = sinks.get();
+            readRegion(reader, channel, regions.get(chunk), headerLines, rows.get(), sink);
+            results.set(chunk, sink.result());
+        });
+        return results;
+    }
+
+    private void readRegion(MappedLineReader reader, FileChannel channel, LineRegion region, int headerLines,
+                            CsvRow row, RowHandler handler) {
+        try {
+            reader.readRegion(channel, region, headerLines, row, handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 모든 조각을 끝까지 처리한 뒤, 파일에서 가장 앞선 조각의 예외를 던져 오류 보고 순서를 고정한다
+    private void runChunks(ForkJoinPool pool, int chunkCount, IntConsumer work) {
+        RuntimeException[] failures = new RuntimeException[chunkCount];
+        pool.invoke(new ChunkAction(0, chunkCount, chunk -> runChunk(work, chunk, failures)));
+        Arrays.stream(failures)
+                .filter(failure -> failure != null)
+                .findFirst()
+                .ifPresent(failure -> {
+                    throw failure;
+                });
+    }
+
+    private void runChunk(IntConsumer work, int chunk, RuntimeException[] failures) {
+        try {
+            work.accept(chunk);
+        } catch (RuntimeException e) {
+            failures[chunk] = e;
+        }
+    }
+
+    private long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long chunkSize = chunkSize(size);
+        List<Long> bounds = new ArrayList<>(List.of(0L));
+        long position = 0;
+        while (position + chunkSize < size) {
+            position = nextLineStart(channel, position + chunkSize);
+            bounds.add(position);
+        }
+        bounds.add(size);
+        return bounds.stream()
+                .distinct()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private long chunkSize(long size) {
+        long perWorker = size / ((long) parallelism * CHUNKS_PER_WORKER);
+        return Math.min(MAX_CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, perWorker));
+    }
+
+    private long nextLineStart(FileChannel channel, long from) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+        long position = from;
+        while (channel.read(buffer.clear(), position) > 0) {
+            int newline = indexOfNewline(buffer.flip());
+            if (newline >= 0) {
+                return position + newline + 1;
+            }
+            position += buffer.limit();
+        }
+        return channel.size();
+    }
+
+    private int indexOfNewline(ByteBuffer buffer) {
+        for (int i = 0; i < buffer.limit(); i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long countLines(FileChannel channel, long start, long end) {
+        try {
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            return countNewlines(region, (int) (end - start));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long countNewlines(MappedByteBuffer region, int length) {
+        long count = 0;
+        for (int i = 0; i < length; i++) {
+            if (region.get(i) == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static class ChunkAction extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer work;
+
+        ChunkAction(int from, int to, IntConsumer work) {
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                runSingle();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ChunkAction(from, middle, work), new ChunkAction(middle, to, work));
+        }
+
+        private void runSingle() {
+            if (from < to) {
+                work.accept(from);
+            }
+        }
+    }
+}
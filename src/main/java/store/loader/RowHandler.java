@@ -0,0 +1,6 @@
+package store.loader;
+
+@FunctionalInterface
+public interface RowHandler {
+    void handle(CsvRow row);
+}
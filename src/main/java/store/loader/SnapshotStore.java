@@ -0,0 +1,90 @@
+package store.loader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import store.domain.product.Product;
+import store.domain.promotion.Promotion;
+
+// store.snapshot.dir 이 지정되면 원본 파일마다 <파일명>.snapshot 을 두고, 원본이 바뀌지 않았으면 스냅샷에서 읽는다
+public final class SnapshotStore {
+    private static final String SNAPSHOT_DIR_PROPERTY = "store.snapshot.dir";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private SnapshotStore() {
+    }
+
+    public static Optional<List<Product>> readProducts(Path source) {
+        return snapshotOf(source).flatMap(snapshot -> readSafely(() ->
+                CatalogSnapshot.readProducts(snapshot, SourceStamp.of(source))));
+    }
+
+    public static Optional<List<Promotion>> readPromotions(Path source) {
+        return snapshotOf(source).flatMap(snapshot -> readSafely(() ->
+                CatalogSnapshot.readPromotions(snapshot, SourceStamp.of(source))));
+    }
+
+    public static void writeProducts(Path source, List<Product> products) {
+        snapshotOf(source).ifPresent(snapshot -> writeSafely(snapshot, temp ->
+                CatalogSnapshot.writeProducts(temp, SourceStamp.of(source), products)));
+    }
+
+    public static void writePromotions(Path source, Map<String, Promotion> promotions) {
+        snapshotOf(source).ifPresent(snapshot -> writeSafely(snapshot, temp ->
+                CatalogSnapshot.writePromotions(temp, SourceStamp.of(source), promotions)));
+    }
+
+    public static boolean isEnabled() {
+        return System.getProperty(SNAPSHOT_DIR_PROPERTY) != null;
+    }
+
+    private static Optional<Path> snapshotOf(Path source) {
+        return Optional.ofNullable(System.getProperty(SNAPSHOT_DIR_PROPERTY))
+                .map(directory -> Paths.get(directory, source.getFileName() + SNAPSHOT_SUFFIX));
+    }
+
+    // 스냅샷이 없거나 깨져 있으면 원본 파일에서 다시 읽도록 비어 있는 결과를 돌려준다
+    private static <T> Optional<T> readSafely(SnapshotReader<T> reader) {
+        try {
+            return reader.read();
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 스냅샷 저장 실패는 적재 자체를 막지 않는다
+    private static void writeSafely(Path snapshot, SnapshotWriter writer) {
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + TEMP_SUFFIX);
+        try {
+            Files.createDirectories(snapshot.toAbsolutePath().getParent());
+            writer.write(temp);
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // 임시 파일은 다음 저장 때 덮어쓴다
+        }
+    }
+
+    @FunctionalInterface
+    private interface SnapshotReader<T> {
+        Optional<T> read() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface SnapshotWriter {
+        void write(Path temp) throws IOException;
+    }
+}
@@ -0,0 +1,12 @@
+package store.loader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 스냅샷이 만들어진 원본 파일의 크기와 수정 시각. 둘 중 하나라도 다르면 스냅샷은 낡은 것이다
+public record SourceStamp(long size, long lastModifiedMillis) {
+    public static SourceStamp of(Path source) throws IOException {
+        return new SourceStamp(Files.size(source), Files.getLastModifiedTime(source).toMillis());
+    }
+}
@@ -0,0 +1,85 @@
+package store.loader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// 같은 바이트열은 같은 String 인스턴스로 돌려주어 줄마다 문자열을 새로 만들지 않는다
+public class Utf8Interner {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private byte[][] keys = new byte[INITIAL_CAPACITY][];
+    private String[] values = new String[INITIAL_CAPACITY];
+    private int size;
+
+    public String intern(ByteBuffer buffer, int start, int end) {
+        int hash = hash(buffer, start, end);
+        int slot = findSlot(buffer, start, end, hash);
+        if (values[slot] != null) {
+            return values[slot];
+        }
+        return insert(slot, buffer, start, end);
+    }
+
+    private int findSlot(ByteBuffer buffer, int start, int end, int hash) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+        while (keys[slot] != null && !matches(keys[slot], buffer, start, end)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private String insert(int slot, ByteBuffer buffer, int start, int end) {
+        byte[] key = new byte[end - start];
+        buffer.get(start, key);
+        String value = new String(key, StandardCharsets.UTF_8);
+        keys[slot] = key;
+        values[slot] = value;
+        growIfNeeded();
+        return value;
+    }
+
+    private void growIfNeeded() {
+        size++;
+        if (size * 2 < keys.length) {
+            return;
+        }
+        byte[][] oldKeys = keys;
+        String[] oldValues = values;
+        keys = new byte[oldKeys.length * 2][];
+        values = new String[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            rehash(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    private void rehash(byte[] key, String value) {
+        if (key == null) {
+            return;
+        }
+        ByteBuffer wrapped = ByteBuffer.wrap(key);
+        int slot = findSlot(wrapped, 0, key.length, hash(wrapped, 0, key.length));
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    private static boolean matches(byte[] key, ByteBuffer buffer, int start, int end) {
+        if (key.length != end - start) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (key[i] != buffer.get(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(ByteBuffer buffer, int start, int end) {
+        int hash = 1;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + buffer.get(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
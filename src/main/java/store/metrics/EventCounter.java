@@ -0,0 +1,24 @@
+package store.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// 여러 스레드가 자주 올리는 횟수. 스레드마다 다른 칸에 더하므로 서로 기다리지 않는다
+public class EventCounter {
+    static final EventCounter NONE = new EventCounter(null);
+
+    private final LongAdder count;
+
+    EventCounter(LongAdder count) {
+        this.count = count;
+    }
+
+    public void increment() {
+        if (count != null) {
+            count.increment();
+        }
+    }
+
+    long sum() {
+        return count.sum();
+    }
+}
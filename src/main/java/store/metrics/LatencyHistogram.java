@@ -0,0 +1,66 @@
+package store.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * HdrHistogram 처럼 2의 거듭제곱 구간마다 같은 개수의 칸을 두는 지연 시간 히스토그램.
+ * 32ns 미만은 값마다 한 칸, 그 위로는 구간 하나를 16칸으로 나누므로 백분위 값의 상대 오차는 1/16 이내다.
+ * 기록은 칸 하나와 합계의 원자적 증가뿐이라 여러 스레드가 락 없이 기록한다.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BITS = SUB_BUCKET_BITS + 1;
+    private static final int LINEAR_LIMIT = 1 << LINEAR_BITS;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (Long.SIZE - 1 - LINEAR_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        totalNanos.add(value);
+        updateMax(value);
+    }
+
+    // 최댓값은 드물게 바뀌므로 읽어 보고 클 때만 쓴다
+    private void updateMax(long value) {
+        long max = maxNanos.get();
+        while (value > max && !maxNanos.compareAndSet(max, value)) {
+            max = maxNanos.get();
+        }
+    }
+
+    static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKET_COUNT;
+        return LINEAR_LIMIT + (exponent - LINEAR_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    // 칸에 들어가는 가장 큰 값. 백분위는 이 값으로 보고한다
+    static long highestValueOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) {
+            return bucket;
+        }
+        int offset = bucket - LINEAR_LIMIT;
+        int shift = offset / SUB_BUCKET_COUNT + LINEAR_BITS - SUB_BUCKET_BITS;
+        long subBucket = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    // 기록과 겹쳐 읽으므로 칸들의 합과 count 가 잠깐 어긋날 수 있다
+    public LatencySnapshot snapshot() {
+        long[] copied = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copied[i] = counts.get(i);
+        }
+        return LatencySnapshot.of(copied, totalNanos.sum(), maxNanos.get());
+    }
+}
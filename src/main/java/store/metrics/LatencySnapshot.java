@@ -0,0 +1,29 @@
+package store.metrics;
+
+// 한 시점의 지연 시간 분포. 백분위 값은 칸의 상한이라 실제 값보다 1/16 이내로 크다
+public record LatencySnapshot(long count, long meanNanos, long p50Nanos, long p99Nanos, long p999Nanos,
+                              long maxNanos) {
+    static LatencySnapshot of(long[] counts, long totalNanos, long maxNanos) {
+        long count = 0;
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+        if (count == 0) {
+            return new LatencySnapshot(0, 0, 0, 0, 0, 0);
+        }
+        return new LatencySnapshot(count, totalNanos / count, percentile(counts, count, 0.5, maxNanos),
+                percentile(counts, count, 0.99, maxNanos), percentile(counts, count, 0.999, maxNanos), maxNanos);
+    }
+
+    private static long percentile(long[] counts, long count, double fraction, long maxNanos) {
+        long rank = Math.max(1, (long) Math.ceil(count * fraction));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValueOf(bucket), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
@@ -0,0 +1,29 @@
+package store.metrics;
+
+// 호출 하나의 시작과 끝을 잰다. 지표를 끈 타이머는 시계를 읽지 않는다
+public class LatencyTimer {
+    static final LatencyTimer NONE = new LatencyTimer(null);
+
+    private final LatencyHistogram histogram;
+
+    LatencyTimer(LatencyHistogram histogram) {
+        this.histogram = histogram;
+    }
+
+    public long start() {
+        if (histogram == null) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    public void stop(long startedAt) {
+        if (histogram != null) {
+            histogram.record(System.nanoTime() - startedAt);
+        }
+    }
+
+    LatencySnapshot snapshot() {
+        return histogram.snapshot();
+    }
+}
@@ -0,0 +1,51 @@
+package store.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 이름 붙은 타이머와 횟수를 모은다. 꺼진 저장소는 아무것도 기록하지 않는 타이머와 횟수를 내준다
+public class MetricsRegistry {
+    private final boolean enabled;
+    private final Map<String, LatencyTimer> timers = new ConcurrentHashMap<>();
+    private final Map<String, EventCounter> counters = new ConcurrentHashMap<>();
+
+    private MetricsRegistry(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static MetricsRegistry enabled() {
+        return new MetricsRegistry(true);
+    }
+
+    public static MetricsRegistry disabled() {
+        return new MetricsRegistry(false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public LatencyTimer timer(String name) {
+        if (!enabled) {
+            return LatencyTimer.NONE;
+        }
+        return timers.computeIfAbsent(name, ignored -> new LatencyTimer(new LatencyHistogram()));
+    }
+
+    public EventCounter counter(String name) {
+        if (!enabled) {
+            return EventCounter.NONE;
+        }
+        return counters.computeIfAbsent(name, ignored -> new EventCounter(new LongAdder()));
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<String, LatencySnapshot> latencies = new TreeMap<>();
+        timers.forEach((name, timer) -> latencies.put(name, timer.snapshot()));
+        Map<String, Long> counts = new TreeMap<>();
+        counters.forEach((name, counter) -> counts.put(name, counter.sum()));
+        return new MetricsSnapshot(latencies, counts);
+    }
+}
@@ -0,0 +1,30 @@
+package store.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 이름순으로 정렬된 지표 한 벌. 소수점 표기는 기본 로케일과 상관없이 점으로 쓴다
+public record MetricsSnapshot(Map<String, LatencySnapshot> latencies, Map<String, Long> counts) {
+    private static final String LATENCY_FORMAT = "[지표] %s %d건 평균 %s p50 %s p99 %s p99.9 %s 최대 %s";
+    private static final String COUNT_FORMAT = "[지표] %s %d건";
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>(latencies.size() + counts.size());
+        latencies.forEach((name, latency) -> lines.add(describe(name, latency)));
+        counts.forEach((name, count) -> lines.add(String.format(Locale.ROOT, COUNT_FORMAT, name, count)));
+        return lines;
+    }
+
+    private static String describe(String name, LatencySnapshot latency) {
+        return String.format(Locale.ROOT, LATENCY_FORMAT, name, latency.count(), micros(latency.meanNanos()),
+                micros(latency.p50Nanos()), micros(latency.p99Nanos()), micros(latency.p999Nanos()),
+                micros(latency.maxNanos()));
+    }
+
+    private static String micros(long nanos) {
+        return String.format(Locale.ROOT, "%.1fµs", nanos / NANOS_PER_MICRO);
+    }
+}
@@ -0,0 +1,47 @@
+package store.metrics;
+
+import java.io.PrintStream;
+
+/*
+ * 계산대 주요 호출의 지표. store.metrics=true 일 때만 켜지고, 꺼져 있으면 타이머가 시계도 읽지 않는다.
+ * 켜져 있으면 dumpOnExit 로 프로세스가 끝날 때 표준 오류에 한 번 내보내고, snapshot 으로 언제든 읽는다.
+ */
+public final class StoreMetrics {
+    private static final String METRICS_PROPERTY = "store.metrics";
+    private static final MetricsRegistry REGISTRY = createRegistry();
+
+    public static final LatencyTimer CREATE_ORDER = REGISTRY.timer("order.create");
+    public static final LatencyTimer VALIDATE_ORDER = REGISTRY.timer("order.validate");
+    // 콘솔/서버 세션은 createOrder 대신 예약 후 확정으로 결제한다
+    public static final LatencyTimer RESERVE_ORDER = REGISTRY.timer("order.reserve");
+    // 주문 줄마다 프로모션 재고를 잡고 증정 수량을 정하는 판단만 잰다
+    public static final LatencyTimer PROMOTION_EVALUATION = REGISTRY.timer("promotion.evaluate");
+    public static final LatencyTimer RECEIPT_RENDERING = REGISTRY.timer("receipt.render");
+    public static final LatencyTimer PRODUCT_LOAD = REGISTRY.timer("catalog.load.products");
+    public static final LatencyTimer PROMOTION_LOAD = REGISTRY.timer("catalog.load.promotions");
+    // 다른 계산대가 쥔 재고 락을 기다려야 했던 횟수
+    public static final EventCounter STOCK_CONFLICTS = REGISTRY.counter("stock.conflicts");
+    public static final EventCounter REJECTED_ORDERS = REGISTRY.counter("order.rejected");
+
+    private StoreMetrics() {
+    }
+
+    private static MetricsRegistry createRegistry() {
+        if (Boolean.getBoolean(METRICS_PROPERTY)) {
+            return MetricsRegistry.enabled();
+        }
+        return MetricsRegistry.disabled();
+    }
+
+    public static MetricsSnapshot snapshot() {
+        return REGISTRY.snapshot();
+    }
+
+    public static void dumpOnExit(PrintStream out) {
+        if (!REGISTRY.isEnabled()) {
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> snapshot().describe().forEach(out::println),
+                "metrics-dump"));
+    }
+}
@@ -0,0 +1,153 @@
+package store.server;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import store.StoreSession;
+import store.view.InputView;
+import store.view.LineSource;
+import store.view.OutputView;
+
+/*
+ * 로컬 소켓 접속과 프로세스 안의 모의 고객을 세션마다 가상 스레드 하나로 돌린다.
+ * 세션은 자기 스트림에 묶인 InputView/OutputView 를 갖고, 상품 목록과 프로모션은 sessions 팩토리가 공유한다.
+ * 출력은 입력을 기다리기 직전에만 내보내므로 프롬프트 하나에 쓰기 한 번이면 된다.
+ */
+public class SessionServer implements AutoCloseable {
+    private static final int BACKLOG = 4096;
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+    private final ServerSocket serverSocket;
+    private final BiFunction<InputView, OutputView, StoreSession> sessions;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicInteger completedSessions = new AtomicInteger();
+    private final Thread acceptor;
+
+    private SessionServer(ServerSocket serverSocket, BiFunction<InputView, OutputView, StoreSession> sessions) {
+        this.serverSocket = serverSocket;
+        this.sessions = sessions;
+        this.acceptor = Thread.ofPlatform()
+                .name("session-acceptor")
+                .daemon()
+                .start(this::acceptConnections);
+    }
+
+    public static SessionServer open(int port, BiFunction<InputView, OutputView, StoreSession> sessions) {
+        try {
+            return new SessionServer(new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress()), sessions);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int portValue() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int activeSessionCount() {
+        return activeSessions.get();
+    }
+
+    public int completedSessionCount() {
+        return completedSessions.get();
+    }
+
+    // 소켓 없이 같은 JVM 안의 스트림으로 세션을 연다
+    public Future<?> openInProcess(InputStream input, OutputStream output) {
+        return executor.submit(() -> runSession(input, output));
+    }
+
+    public void awaitTermination() {
+        try {
+            acceptor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            acceptNext();
+        }
+    }
+
+    private void acceptNext() {
+        try {
+            Socket socket = serverSocket.accept();
+            connections.add(socket);
+            executor.submit(() -> serve(socket));
+        } catch (IOException e) {
+            // 서버 소켓을 닫으면 accept 가 깨어나며 반복이 끝난다
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            runSession(socket.getInputStream(), socket.getOutputStream());
+        } catch (IOException e) {
+            // 고객이 먼저 끊은 접속은 정리만 한다
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private void runSession(InputStream input, OutputStream output) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(output, OUTPUT_BUFFER_SIZE), false,
+                StandardCharsets.UTF_8);
+        LineSource lines = flushingBeforeRead(input, out);
+        activeSessions.incrementAndGet();
+        try {
+            sessions.apply(new InputView(lines, out), new OutputView(out)).run();
+        } catch (NoSuchElementException | UncheckedIOException e) {
+            // 입력이 끝나면 세션을 마친다. 붙잡은 예약은 결제 엔진이 이미 풀었다
+        } finally {
+            out.flush();
+            activeSessions.decrementAndGet();
+            completedSessions.incrementAndGet();
+        }
+    }
+
+    private LineSource flushingBeforeRead(InputStream input, PrintStream out) {
+        LineSource source = LineSource.of(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+        return () -> {
+            out.flush();
+            return source.readLine();
+        };
+    }
+
+    // 열린 접속을 끊어 읽기에서 기다리던 세션을 깨운 뒤 모든 세션이 끝날 때까지 기다린다
+    @Override
+    public void close() {
+        closeQuietly(serverSocket);
+        connections.forEach(SessionServer::closeQuietly);
+        executor.close();
+        awaitTermination();
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            // 이미 닫힌 접속이다
+        }
+    }
+}
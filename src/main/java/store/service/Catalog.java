@@ -0,0 +1,20 @@
+package store.service;
+
+import java.util.List;
+import store.domain.product.Products;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptIssuer;
+import store.domain.receipt.ReceiptItem;
+
+// 함께 바뀌는 상품 목록과 프로모션 한 벌. 주문 하나는 처음 잡은 한 벌로 끝까지 처리한다
+public record Catalog(Products products, PromotionService promotionService) implements ReceiptIssuer {
+    public static Catalog load() {
+        return new Catalog(new ProductService().productsValue(), new PromotionService());
+    }
+
+    @Override
+    public Receipt issue(List<ReceiptItem> items, boolean useMembership) {
+        long promotionDiscount = promotionService.calculateTotalDiscount(items);
+        return new Receipt(items, promotionDiscount, useMembership, promotionService);
+    }
+}
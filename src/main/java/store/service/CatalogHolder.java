@@ -0,0 +1,69 @@
+package store.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import store.domain.product.StockHandover;
+import store.domain.product.StockLock;
+import store.domain.product.StockWatcher;
+
+/*
+ * 지금 쓰는 카탈로그를 가리킨다. 새 카탈로그는 밖에서 다 만든 뒤 swap 으로 한 번에 바꾼다 (copy-on-write).
+ * 교체는 이전 카탈로그의 모든 재고 락을 쥐고 재고를 옮긴 뒤 일어나므로, 이미 락을 잡은 주문은 이전 카탈로그로 끝나고
+ * 락을 기다리던 주문은 락을 얻은 뒤 카탈로그가 바뀐 것을 보고 새 카탈로그로 다시 잡는다.
+ */
+public class CatalogHolder {
+    private final List<StockWatcher> watchers = new CopyOnWriteArrayList<>();
+    private final List<SalesRecorder> salesRecorders = new CopyOnWriteArrayList<>();
+    private volatile Catalog current;
+
+    public CatalogHolder(Catalog catalog) {
+        this.current = catalog;
+    }
+
+    public Catalog current() {
+        return current;
+    }
+
+    public <T> T lockStock(Collection<String> productNames, Function<Catalog, T> action) {
+        while (true) {
+            Catalog catalog = current;
+            try (StockLock ignored = catalog.products().lockStock(productNames)) {
+                if (catalog == current) {
+                    return action.apply(catalog);
+                }
+            }
+        }
+    }
+
+    // 지금 카탈로그와 앞으로 바뀔 카탈로그의 재고 변경을 모두 받는다
+    public synchronized void watchStock(StockWatcher watcher) {
+        if (watcher == StockWatcher.NONE) {
+            return;
+        }
+        watchers.add(watcher);
+        current.products().watchStock(watcher);
+    }
+
+    // 판매 기록도 카탈로그와 함께 바꿔 끼운다. 같은 기록기는 한 번만 붙는다
+    public synchronized void bindSalesRecorder(SalesRecorder salesRecorder) {
+        if (salesRecorder == SalesRecorder.NONE || salesRecorders.contains(salesRecorder)) {
+            return;
+        }
+        salesRecorders.add(salesRecorder);
+    }
+
+    // 락을 쥐는 동안에는 판매 기록을 옮기고 재고를 옮긴다. 기록을 옮기지 못하면 재고를 옮기기 전에 교체를 멈춘다. 감시자는 새 상품의 재고가 이어받은 수량으로 오르는 변화부터 보고, 이전 카탈로그에서는 떨어진다
+    public synchronized void swap(Catalog next) {
+        Catalog previous = current;
+        StockHandover handover = next.products().takeOverStock(previous.products());
+        watchers.forEach(next.products()::watchStock);
+        try (StockLock ignored = previous.products().lockAllStock()) {
+            salesRecorders.forEach(salesRecorder -> salesRecorder.catalogSwapped(next.products()));
+            handover.complete();
+            current = next;
+            watchers.forEach(previous.products()::unwatchStock);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package store.service;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import store.FileLoader;
+
+/*
+ * 상품/프로모션 파일을 다시 읽어 카탈로그를 바꾼다.
+ * reload 를 직접 부르거나, store.catalog.reload=true 이면 두 파일이 있는 디렉터리를 지켜보다가 바뀔 때 부른다.
+ * 새 카탈로그는 결제와 상관없는 이 스레드에서 다 만든 뒤 교체하므로, 결제가 기다리는 것은 재고를 옮기는 동안뿐이다.
+ */
+public class CatalogReloader implements AutoCloseable {
+    private static final String RELOAD_PROPERTY = "store.catalog.reload";
+    private static final String RELOAD_ERROR_FORMAT = "[카탈로그] 다시 불러오지 못해 이전 카탈로그를 유지합니다: %s%n";
+    private static final String WATCH_ERROR = "카탈로그 파일을 지켜볼 수 없습니다.";
+    private static final long SETTLE_MILLIS = 200;
+
+    private final CatalogHolder catalogs;
+    private final Supplier<Catalog> loader;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public CatalogReloader(CatalogHolder catalogs, Supplier<Catalog> loader) {
+        this.catalogs = catalogs;
+        this.loader = loader;
+    }
+
+    public static void watchFromSystemProperty(CatalogHolder catalogs, PrintStream errors) {
+        if (!Boolean.getBoolean(RELOAD_PROPERTY)) {
+            return;
+        }
+        new CatalogReloader(catalogs, Catalog::load)
+                .watch(List.of(FileLoader.productsPath(), FileLoader.promotionsPath()), errors);
+    }
+
+    // 불러오기에 실패하면 교체하지 않고 예외를 그대로 던진다
+    public Catalog reload() {
+        Catalog next = loader.get();
+        catalogs.swap(next);
+        return next;
+    }
+
+    public CatalogReloader watch(List<Path> files, PrintStream errors) {
+        Set<Path> watchedFiles = files.stream()
+                .map(Path::toAbsolutePath)
+                .collect(Collectors.toSet());
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            registerDirectories(watchedFiles);
+        } catch (IOException e) {
+            throw new IllegalStateException(WATCH_ERROR, e);
+        }
+        watcher = new Thread(() -> watchLoop(watchedFiles, errors), "catalog-reloader");
+        watcher.setDaemon(true);
+        watcher.start();
+        return this;
+    }
+
+    private void registerDirectories(Set<Path> files) throws IOException {
+        for (Path directory : files.stream().map(Path::getParent).collect(Collectors.toSet())) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+    }
+
+    private void watchLoop(Set<Path> files, PrintStream errors) {
+        try {
+            while (true) {
+                awaitChange(files);
+                reloadQuietly(errors);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // close 로 끝냈다
+        }
+    }
+
+    // 편집기는 파일 하나를 여러 번에 나눠 쓰므로 잠시 기다렸다가 그 사이 이벤트를 한꺼번에 버린다
+    private void awaitChange(Set<Path> files) throws InterruptedException {
+        boolean changed = false;
+        while (!changed) {
+            changed = touches(watchService.take(), files);
+        }
+        TimeUnit.MILLISECONDS.sleep(SETTLE_MILLIS);
+        discardPending(files);
+    }
+
+    private void discardPending(Set<Path> files) {
+        for (WatchKey key = watchService.poll(); key != null; key = watchService.poll()) {
+            touches(key, files);
+        }
+    }
+
+    private static boolean touches(WatchKey key, Set<Path> files) {
+        Path directory = (Path) key.watchable();
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            touched |= event.context() instanceof Path name && files.contains(directory.resolve(name));
+        }
+        key.reset();
+        return touched;
+    }
+
+    private void reloadQuietly(PrintStream errors) {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            errors.printf(RELOAD_ERROR_FORMAT, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+            watcher.join();
+        } catch (IOException e) {
+            throw new IllegalStateException(WATCH_ERROR, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
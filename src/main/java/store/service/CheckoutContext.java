@@ -0,0 +1,127 @@
+package store.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import store.domain.order.OrderLines;
+import store.domain.product.Product;
+import store.domain.product.ProductGroup;
+import store.domain.product.Products;
+import store.domain.promotion.Promotion;
+
+/*
+ * 재고 락을 쥔 동안 쓰는 주문 처리 문맥.
+ * 상품 묶음마다 상품/프로모션 조회를 한 번만 하고, 차감할 수량은 재고 칸(slot)별로 모아 두었다가 apply 에서 한 번에 반영한다.
+ * 일괄 결제는 문맥 하나로 모든 주문을 처리하므로 같은 상품을 다시 조회하지 않는다.
+ * 차감 기록은 되돌리기 기록(undo log)에도 남겨, 거절된 주문이 잡은 수량만 checkpoint 까지 되돌린다.
+ */
+class CheckoutContext {
+    private static final int NO_SLOT = -1;
+    private static final int INITIAL_SLOT_COUNT = 16;
+
+    private final Products products;
+    private final PromotionService promotionService;
+    private final Map<ProductGroup, StockLine> lines = new IdentityHashMap<>();
+    private final List<Product> slotProducts = new ArrayList<>();
+    private int[] taken = new int[INITIAL_SLOT_COUNT];
+    private int[] undoLog = new int[INITIAL_SLOT_COUNT * 2];
+    private int undoSize;
+
+    CheckoutContext(Products products, PromotionService promotionService) {
+        this.products = products;
+        this.promotionService = promotionService;
+    }
+
+    StockLine line(String productName) {
+        return line(products.groupOf(products.productIdOf(productName)));
+    }
+
+    StockLine line(OrderLines orderLines, int line) {
+        return line(products.groupOf(orderLines.productIdOf(line, products)));
+    }
+
+    private StockLine line(ProductGroup group) {
+        StockLine line = lines.get(group);
+        if (line == null) {
+            line = resolve(group);
+            lines.put(group, line);
+        }
+        return line;
+    }
+
+    private StockLine resolve(ProductGroup group) {
+        Product promotionProduct = group.promotionProduct();
+        Product normalProduct = group.normalProduct();
+        return new StockLine(group.firstProduct().orElse(null),
+                promotionProduct, slotOf(promotionProduct), normalProduct, slotOf(normalProduct),
+                promotionService.findProductPromotion(promotionProduct),
+                promotionService.findActivePromotion(promotionProduct));
+    }
+
+    private int slotOf(Product product) {
+        if (product == null) {
+            return NO_SLOT;
+        }
+        slotProducts.add(product);
+        if (slotProducts.size() > taken.length) {
+            taken = Arrays.copyOf(taken, taken.length * 2);
+        }
+        return slotProducts.size() - 1;
+    }
+
+    int quantityOf(int slot) {
+        if (slot == NO_SLOT) {
+            return 0;
+        }
+        return slotProducts.get(slot).quantityValue() - taken[slot];
+    }
+
+    // 차감은 프로모션 재고와 일반 재고 한 줄씩에서만 하므로, 같은 이름의 나머지 줄은 주문할 수 있는 재고로 세지 않는다
+    int totalStock(StockLine line) {
+        return quantityOf(line.promotionSlot()) + quantityOf(line.normalSlot());
+    }
+
+    void take(int slot, int quantity) {
+        taken[slot] += quantity;
+        if (undoSize == undoLog.length) {
+            undoLog = Arrays.copyOf(undoLog, undoLog.length * 2);
+        }
+        undoLog[undoSize++] = slot;
+        undoLog[undoSize++] = quantity;
+    }
+
+    int checkpoint() {
+        return undoSize;
+    }
+
+    // checkpoint 뒤에 잡은 수량을 모두 내려놓는다
+    void rollBackTo(int checkpoint) {
+        while (undoSize > checkpoint) {
+            int quantity = undoLog[--undoSize];
+            taken[undoLog[--undoSize]] -= quantity;
+        }
+    }
+
+    void apply() {
+        for (int slot = 0; slot < slotProducts.size(); slot++) {
+            applySlot(slot);
+        }
+        Arrays.fill(taken, 0);
+        undoSize = 0;
+    }
+
+    private void applySlot(int slot) {
+        if (taken[slot] > 0) {
+            slotProducts.get(slot).decreaseQuantity(taken[slot]);
+        }
+    }
+
+    record StockLine(Product firstProduct, Product promotionProduct, int promotionSlot, Product normalProduct,
+                     int normalSlot, Promotion promotion, Promotion activePromotion) {
+        boolean exists() {
+            return firstProduct != null;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package store.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+import store.domain.order.CheckoutResult;
+import store.domain.order.OrderLines;
+import store.domain.receipt.Receipt;
+import store.domain.reservation.Reservation;
+import store.domain.reservation.ReservedItem;
+
+/*
+ * 콘솔과 무관한 결제 흐름: 증정 추가 제안 → 검증과 재고 예약 → 정가 구매 확인 → 멤버십 → 확정.
+ * 고객의 답은 CustomerPolicy 에서 받으므로 콘솔 Application 과 프로그램 호출자가 같은 엔진을 쓴다.
+ */
+public class CheckoutEngine {
+    private final OrderService orderService;
+    private final Duration holdTime;
+
+    public CheckoutEngine(OrderService orderService, Duration holdTime) {
+        this.orderService = orderService;
+        this.holdTime = holdTime;
+    }
+
+    public CheckoutResult checkout(Map<String, Integer> items, CustomerPolicy policy) {
+        return checkout(OrderLines.of(items), policy);
+    }
+
+    public CheckoutResult checkout(OrderLines items, CustomerPolicy policy) {
+        try {
+            Reservation reservation = reserve(items, policy);
+            if (!acceptNonPromotionalItems(reservation, policy)) {
+                return CheckoutResult.declined();
+            }
+            return CheckoutResult.completed(complete(reservation, askMembership(reservation, policy)));
+        } catch (IllegalArgumentException e) {
+            return CheckoutResult.rejected(e.getMessage());
+        }
+    }
+
+    // 아래 단계들은 세션 상태 기계가 한 단계씩 부른다. 순서는 checkout 과 같다
+    public Reservation reserve(OrderLines items, CustomerPolicy policy) {
+        OrderLines itemsWithGifts = addAcceptedGifts(items, policy);
+        orderService.validateOrder(itemsWithGifts);
+        return orderService.reserve(itemsWithGifts, holdTime);
+    }
+
+    // 거절하면 예약을 해제하고 false 를 돌려준다
+    public boolean acceptNonPromotionalItems(Reservation reservation, CustomerPolicy policy) {
+        boolean accepted = holding(reservation, () -> reservation.itemsValue().stream()
+                .allMatch(item -> acceptNonPromotionalItem(item, policy)));
+        if (!accepted) {
+            orderService.cancel(reservation);
+        }
+        return accepted;
+    }
+
+    public boolean askMembership(Reservation reservation, CustomerPolicy policy) {
+        return holding(reservation, policy::useMembership);
+    }
+
+    public Receipt complete(Reservation reservation, boolean useMembership) {
+        return holding(reservation, () -> orderService.confirm(reservation, useMembership));
+    }
+
+    // 증정을 받아들인 줄이 있을 때만 수량을 바꾼 새 주문을 만든다
+    private OrderLines addAcceptedGifts(OrderLines items, CustomerPolicy policy) {
+        OrderLines updatedItems = items;
+        for (int line = 0; line < items.size(); line++) {
+            updatedItems = addAcceptedGift(updatedItems, line, policy);
+        }
+        return updatedItems;
+    }
+
+    private OrderLines addAcceptedGift(OrderLines items, int line, CustomerPolicy policy) {
+        int quantity = items.quantityOf(line);
+        int giftQuantity = orderService.calculateAddableGiftQuantity(items, line);
+        if (giftQuantity > 0 && policy.acceptAdditionalGift(items.nameOf(line), giftQuantity)) {
+            return items.withQuantity(line, quantity + giftQuantity);
+        }
+        return items;
+    }
+
+    // 단계가 예외를 던져도 예약이 만료될 때까지 재고를 붙잡지 않도록 바로 해제한다
+    private <T> T holding(Reservation reservation, Supplier<T> step) {
+        try {
+            return step.get();
+        } catch (RuntimeException e) {
+            orderService.cancel(reservation);
+            throw e;
+        }
+    }
+
+    private boolean acceptNonPromotionalItem(ReservedItem item, CustomerPolicy policy) {
+        if (!item.needsNonPromotionalWarning()) {
+            return true;
+        }
+        return policy.acceptNonPromotionalPurchase(item.nameValue(), item.nonPromotionalQuantityValue());
+    }
+}
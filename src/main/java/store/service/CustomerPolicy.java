@@ -0,0 +1,30 @@
+package store.service;
+
+// 결제 중 고객에게 묻는 질문에 대한 답. 콘솔 입력, 고정 응답, 미리 정한 시나리오 등으로 바꿔 끼운다
+public interface CustomerPolicy {
+    CustomerPolicy ALWAYS_ACCEPT = new FixedAnswer(true);
+    CustomerPolicy ALWAYS_DECLINE = new FixedAnswer(false);
+
+    boolean acceptAdditionalGift(String productName, int giftQuantity);
+
+    boolean acceptNonPromotionalPurchase(String productName, int quantity);
+
+    boolean useMembership();
+
+    record FixedAnswer(boolean answer) implements CustomerPolicy {
+        @Override
+        public boolean acceptAdditionalGift(String productName, int giftQuantity) {
+            return answer;
+        }
+
+        @Override
+        public boolean acceptNonPromotionalPurchase(String productName, int quantity) {
+            return answer;
+        }
+
+        @Override
+        public boolean useMembership() {
+            return answer;
+        }
+    }
+}
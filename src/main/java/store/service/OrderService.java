@@ -1,191 +1,417 @@
 package store.service;
 
-import camp.nextstep.edu.missionutils.DateTimes;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import store.domain.order.BatchReceipt;
+import store.domain.order.OrderLines;
+import store.domain.order.OrderOutcome;
+import store.domain.order.OrderRequest;
 import store.domain.product.Product;
 import store.domain.product.Products;
 import store.domain.promotion.Promotion;
 import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptIssuer;
 import store.domain.receipt.ReceiptItem;
+import store.domain.reservation.Reservation;
+import store.domain.reservation.ReservationRegistry;
+import store.domain.reservation.ReservedItem;
+import store.domain.reservation.ReservedItem.NonPromotionalNotice;
+import store.domain.reservation.ReservedItem.StockHold;
+import store.jfr.CreateOrderEvent;
+import store.jfr.PromotionEvaluationEvent;
+import store.jfr.StockReservationFailureEvent;
+import store.metrics.StoreMetrics;
+import store.service.CheckoutContext.StockLine;
+import store.service.SalesRecorder.CompletedSale;
 
 public class OrderService {
     private static final String EMPTY_ORDER_ERROR = "올바르지 않은 형식으로 입력했습니다. 다시 입력해 주세요.";
     private static final String STOCK_EXCEEDED_ERROR = "재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요.";
     private static final String PRODUCT_NOT_FOUND_ERROR = "존재하지 않는 상품입니다. 다시 입력해 주세요.";
     private static final String EXCEPTION_ERROR = "잘못된 입력입니다. 다시 입력해 주세요.";
+    private static final String RESERVATION_EXPIRED_ERROR = "주문 대기 시간이 만료되었습니다. 다시 입력해 주세요.";
 
-    private final Products products;
-    private final PromotionService promotionService;
+    private final CatalogHolder catalogs;
+    private final ReservationRegistry reservations;
+    private final SalesRecorder salesRecorder;
 
     public OrderService(Products products, PromotionService promotionService) {
-        this.products = products;
-        this.promotionService = promotionService;
+        this(products, promotionService, new ReservationRegistry());
+    }
+
+    public OrderService(Products products, PromotionService promotionService, ReservationRegistry reservations) {
+        this(products, promotionService, reservations, SalesRecorder.NONE);
+    }
+
+    public OrderService(Products products, PromotionService promotionService,
+                        ReservationRegistry reservations, SalesRecorder salesRecorder) {
+        this(new CatalogHolder(new Catalog(products, promotionService)), reservations, salesRecorder);
+    }
+
+    // 카탈로그가 바뀔 수 있는 호출자용. 주문마다 그 순간의 카탈로그 한 벌로 처리한다
+    public OrderService(CatalogHolder catalogs, ReservationRegistry reservations, SalesRecorder salesRecorder) {
+        this.catalogs = catalogs;
+        this.reservations = reservations;
+        this.salesRecorder = salesRecorder;
+        catalogs.bindSalesRecorder(salesRecorder);
     }
 
     public Receipt createOrder(Map<String, Integer> orderItems, boolean useMembership) {
-        List<ReceiptItem> receiptItems = processOrderItems(orderItems);
-        return createReceipt(receiptItems, useMembership);
+        return createOrder(toOrderLines(orderItems), useMembership);
     }
 
-    public void validateOrder(Map<String, Integer> orderItems) {
-        validateOrderNotEmpty(orderItems);
-        validateOrderStock(orderItems);
+    public Receipt createOrder(OrderLines orderLines, boolean useMembership) {
+        long startedAt = StoreMetrics.CREATE_ORDER.start();
+        try {
+            return placeOrder(orderLines, useMembership);
+        } catch (IllegalArgumentException e) {
+            StoreMetrics.REJECTED_ORDERS.increment();
+            throw e;
+        } finally {
+            StoreMetrics.CREATE_ORDER.stop(startedAt);
+        }
     }
 
-    private void validateOrderNotEmpty(Map<String, Integer> orderItems) {
-        if (orderItems == null || orderItems.isEmpty()) {
-            throw new IllegalArgumentException(EMPTY_ORDER_ERROR);
+    private Receipt placeOrder(OrderLines orderLines, boolean useMembership) {
+        CreateOrderEvent event = CreateOrderEvent.start();
+        ReservedStock reserved = reserveItems(orderLines);
+        Receipt receipt = completeSale(reserved.items(), reserved.catalog(), useMembership,
+                () -> releaseAll(reserved.items()));
+        event.commitOrder(orderLines.size(), receipt);
+        return receipt;
+    }
+
+    // 주문들을 요청 순서대로 처리한 것과 같은 결과를 내되, 재고 락은 한 번만 잡고 차감은 상품마다 한 번에 반영한다
+    public BatchReceipt createOrders(List<OrderRequest> orders) {
+        List<ReservedOrder> reservedOrders = reserveBatch(orders);
+        List<OrderOutcome> outcomes = new ArrayList<>(reservedOrders.size());
+        List<CompletedSale> sales = new ArrayList<>(reservedOrders.size());
+        reservedOrders.forEach(order -> outcomes.add(completeBatchOrder(order, sales)));
+        try {
+            salesRecorder.recordAll(sales);
+        } catch (RuntimeException e) {
+            sales.forEach(sale -> releaseAll(sale.items()));
+            throw e;
         }
+        return BatchReceipt.of(outcomes);
     }
 
-    private void validateOrderStock(Map<String, Integer> orderItems) {
-        orderItems.forEach(this::validateProductStock);
+    public Reservation reserve(Map<String, Integer> orderItems, Duration holdTime) {
+        return reserve(toOrderLines(orderItems), holdTime);
     }
 
-    private void validateProductStock(String productName, int quantity) {
-        List<Product> availableProducts = products.findAllByName(productName);
-        validateTotalStock(quantity, availableProducts);
+    public Reservation reserve(OrderLines orderLines, Duration holdTime) {
+        long startedAt = StoreMetrics.RESERVE_ORDER.start();
+        try {
+            validateOrderNotEmpty(orderLines);
+            ReservedStock reserved = reserveItems(orderLines);
+            return reservations.register(reserved.items(), reserved.catalog(), holdTime);
+        } catch (IllegalArgumentException e) {
+            StoreMetrics.REJECTED_ORDERS.increment();
+            throw e;
+        } finally {
+            StoreMetrics.RESERVE_ORDER.stop(startedAt);
+        }
     }
 
-    private void validateTotalStock(int quantity, List<Product> availableProducts) {
-        int totalStock = calculateTotalStock(availableProducts);
-        if (totalStock < quantity) {
-            throw new IllegalArgumentException(STOCK_EXCEEDED_ERROR);
+    public Receipt confirm(Reservation reservation, boolean useMembership) {
+        CreateOrderEvent event = CreateOrderEvent.start();
+        reservations.remove(reservation);
+        if (!reservation.confirm()) {
+            throw new IllegalArgumentException(RESERVATION_EXPIRED_ERROR);
+        }
+        Receipt receipt = completeSale(reservation.itemsValue(), reservation.receiptIssuerValue(), useMembership,
+                reservation::rollBack);
+        event.commitOrder(reservation.itemsValue().size(), receipt);
+        return receipt;
+    }
+
+    // 판매를 기록하지 못하면 차감한 재고를 되돌리고 실패를 알린다. 기록되지 않은 판매가 재고에만 남지 않게 한다
+    private Receipt completeSale(List<ReservedItem> reservedItems, ReceiptIssuer receiptIssuer, boolean useMembership,
+                                 Runnable rollBack) {
+        try {
+            Receipt receipt = receiptIssuer.issue(toReceiptItems(reservedItems), useMembership);
+            salesRecorder.record(reservedItems, receipt);
+            return receipt;
+        } catch (RuntimeException e) {
+            rollBack.run();
+            throw e;
         }
     }
 
-    private int calculateTotalStock(List<Product> availableProducts) {
-        return availableProducts.stream()
-                .mapToInt(Product::quantityValue)
-                .sum();
+    private static void releaseAll(List<ReservedItem> reservedItems) {
+        reservedItems.forEach(ReservedItem::release);
     }
 
-    private List<ReceiptItem> processOrderItems(Map<String, Integer> orderItems) {
-        List<ReceiptItem> receiptItems = new ArrayList<>();
-        orderItems.forEach((name, quantity) ->
-                receiptItems.add(processOneItem(name, quantity)));
-        return receiptItems;
+    public void cancel(Reservation reservation) {
+        reservations.remove(reservation);
+        reservation.cancel();
+    }
+
+    private ReservedStock reserveItems(OrderLines orderLines) {
+        StockReservationFailureEvent failure = StockReservationFailureEvent.start();
+        try {
+            return catalogs.lockStock(orderLines.namesValue(), catalog -> reserveLocked(catalog, orderLines));
+        } catch (IllegalArgumentException e) {
+            failure.commitFailure(StockReservationFailureEvent.RESERVE, orderLines, e.getMessage());
+            throw e;
+        }
     }
 
-    private ReceiptItem processOneItem(String productName, int quantity) {
-        List<Product> availableProducts = products.findAllByName(productName);
-        Product promotionProduct = findPromotionProduct(availableProducts);
-        Product normalProduct = findNormalProduct(availableProducts);
-        ProcessedQuantity processed = processPromotionQuantity(promotionProduct, quantity);
-        processRemainingQuantity(normalProduct, processed.remainingQuantity());
-        return createReceiptItem(productName, quantity, processed.giftQuantity());
+    // 재고를 잡은 카탈로그를 함께 돌려주어 영수증도 같은 카탈로그로 계산하게 한다
+    private ReservedStock reserveLocked(Catalog catalog, OrderLines orderLines) {
+        CheckoutContext context = newContext(catalog);
+        List<ReservedItem> reservedItems = reserveWith(context, orderLines);
+        context.apply();
+        return new ReservedStock(catalog, reservedItems);
     }
 
-    private Product findNormalProduct(List<Product> products) {
-        return products.stream()
-                .filter(p -> !p.hasPromotion())
-                .findFirst()
-                .orElse(null);
+    private CheckoutContext newContext() {
+        return newContext(catalogs.current());
     }
 
-    private void processRemainingQuantity(Product normalProduct, int remainingQuantity) {
-        if (remainingQuantity > 0) {
-            if (normalProduct != null && normalProduct.hasEnoughStock(remainingQuantity)) {
-                normalProduct.decreaseQuantity(remainingQuantity);
-            }
+    private static CheckoutContext newContext(Catalog catalog) {
+        return new CheckoutContext(catalog.products(), catalog.promotionService());
+    }
+
+    private List<ReservedItem> reserveWith(CheckoutContext context, OrderLines orderLines) {
+        validateOrderedProducts(context, orderLines);
+        return processOrderItems(context, orderLines);
+    }
+
+    private List<ReservedOrder> reserveBatch(List<OrderRequest> orders) {
+        return catalogs.lockStock(collectProductNames(orders), catalog -> {
+            CheckoutContext context = newContext(catalog);
+            List<ReservedOrder> reservedOrders = new ArrayList<>(orders.size());
+            orders.forEach(order -> reservedOrders.add(reserveInBatch(catalog, context, order)));
+            context.apply();
+            return reservedOrders;
+        });
+    }
+
+    private Set<String> collectProductNames(List<OrderRequest> orders) {
+        Set<String> names = new HashSet<>();
+        orders.forEach(order -> names.addAll(order.items().keySet()));
+        return names;
+    }
+
+    // 거절된 주문이 이미 잡은 수량은 되돌려 다음 주문의 판단과 apply 에 남지 않게 한다
+    private ReservedOrder reserveInBatch(Catalog catalog, CheckoutContext context, OrderRequest order) {
+        StockReservationFailureEvent failure = StockReservationFailureEvent.start();
+        OrderLines orderLines = OrderLines.of(order.items());
+        int checkpoint = context.checkpoint();
+        try {
+            return new ReservedOrder(reserveWith(context, orderLines), catalog, order.useMembership(), null);
+        } catch (IllegalArgumentException e) {
+            context.rollBackTo(checkpoint);
+            failure.commitFailure(StockReservationFailureEvent.BATCH, orderLines, e.getMessage());
+            return new ReservedOrder(null, catalog, order.useMembership(), e.getMessage());
         }
     }
 
-    private ReceiptItem createReceiptItem(String productName, int quantity, int giftQuantity) {
-        Product product = findProduct(productName);
-        return new ReceiptItem(productName, quantity, product.priceValue(), giftQuantity);
+    private OrderOutcome completeBatchOrder(ReservedOrder order, List<CompletedSale> sales) {
+        if (order.items() == null) {
+            StoreMetrics.REJECTED_ORDERS.increment();
+            return OrderOutcome.rejected(order.errorMessage());
+        }
+        Receipt receipt = order.catalog().issue(toReceiptItems(order.items()), order.useMembership());
+        sales.add(new CompletedSale(order.items(), receipt));
+        return OrderOutcome.accepted(receipt);
     }
 
-    private ProcessedQuantity processPromotionQuantity(Product product, int quantity) {
-        if (!isValidForPromotion(product)) {
-            return new ProcessedQuantity(0, quantity);
+    private List<ReceiptItem> toReceiptItems(List<ReservedItem> reservedItems) {
+        return reservedItems.stream()
+                .map(ReservedItem::toReceiptItem)
+                .toList();
+    }
+
+    private void validateOrderedProducts(CheckoutContext context, OrderLines orderLines) {
+        for (int line = 0; line < orderLines.size(); line++) {
+            requireProduct(context.line(orderLines, line));
         }
-        Promotion promotion = promotionService.findPromotion(product.promotionNameValue());
-        if (!isActivePromotion(promotion)) {
-            return new ProcessedQuantity(0, quantity);
+        validateOrderStock(context, orderLines);
+    }
+
+    private void requireProduct(StockLine line) {
+        if (!line.exists()) {
+            throw new IllegalArgumentException(PRODUCT_NOT_FOUND_ERROR);
+        }
+    }
+
+    public void validateOrder(Map<String, Integer> orderItems) {
+        validateOrder(toOrderLines(orderItems));
+    }
+
+    public void validateOrder(OrderLines orderLines) {
+        long startedAt = StoreMetrics.VALIDATE_ORDER.start();
+        StockReservationFailureEvent failure = StockReservationFailureEvent.start();
+        try {
+            validateOrderNotEmpty(orderLines);
+            validateOrderStock(newContext(), orderLines);
+        } catch (IllegalArgumentException e) {
+            StoreMetrics.REJECTED_ORDERS.increment();
+            failure.commitFailure(StockReservationFailureEvent.VALIDATE, orderLines, e.getMessage());
+            throw e;
+        } finally {
+            StoreMetrics.VALIDATE_ORDER.stop(startedAt);
+        }
+    }
+
+    private void validateOrderNotEmpty(OrderLines orderLines) {
+        if (orderLines == null || orderLines.isEmpty()) {
+            throw new IllegalArgumentException(EMPTY_ORDER_ERROR);
+        }
+    }
+
+    private void validateOrderStock(CheckoutContext context, OrderLines orderLines) {
+        for (int line = 0; line < orderLines.size(); line++) {
+            validateTotalStock(orderLines.quantityOf(line), context.totalStock(context.line(orderLines, line)));
+        }
+    }
+
+    private void validateTotalStock(int quantity, int totalStock) {
+        if (totalStock < quantity) {
+            throw new IllegalArgumentException(STOCK_EXCEEDED_ERROR);
+        }
+    }
+
+    private List<ReservedItem> processOrderItems(CheckoutContext context, OrderLines orderLines) {
+        List<ReservedItem> reservedItems = new ArrayList<>(orderLines.size());
+        for (int line = 0; line < orderLines.size(); line++) {
+            reservedItems.add(processOneItem(context, context.line(orderLines, line),
+                    orderLines.nameOf(line), orderLines.quantityOf(line)));
         }
-        return calculatePromotionQuantities(product, quantity);
+        return reservedItems;
     }
 
-    private boolean isValidForPromotion(Product product) {
-        return product != null && product.hasPromotion();
+    private ReservedItem processOneItem(CheckoutContext context, StockLine line, String productName, int quantity) {
+        NonPromotionalNotice notice = createNonPromotionalNotice(context, line, quantity);
+        ProcessedQuantity processed = processPromotionQuantity(context, line, quantity);
+        int promotionTaken = quantity - processed.remainingQuantity();
+        int normalTaken = decreaseAvailable(context, line.normalSlot(), processed.remainingQuantity());
+        promotionTaken += processRemainingQuantity(context, line.promotionSlot(),
+                processed.remainingQuantity() - normalTaken);
+        return new ReservedItem(productName, quantity, line.firstProduct().priceValue(), processed.giftQuantity(),
+                notice, hold(line.promotionProduct(), promotionTaken), hold(line.normalProduct(), normalTaken));
     }
 
-    private boolean isActivePromotion(Promotion promotion) {
-        return promotion != null && promotion.isActive(DateTimes.now().toLocalDate());
+    private NonPromotionalNotice createNonPromotionalNotice(CheckoutContext context, StockLine line, int quantity) {
+        return new NonPromotionalNotice(isPromotionalWarningRequired(context, line, quantity),
+                calculateNonPromotionalQuantity(context, line, quantity));
     }
 
-    private ProcessedQuantity calculatePromotionQuantities(Product product, int quantity) {
-        int availableQuantity = calculateAvailableQuantity(product, quantity);
-        int promotionDivisor = getPromotionDivisor(product.promotionNameValue());
-        return processPromotionSets(product, quantity, availableQuantity, promotionDivisor);
+    // 일반 재고가 부족하면 남은 수량은 프로모션 재고에서 정가로 차감한다
+    private int processRemainingQuantity(CheckoutContext context, int promotionSlot, int remainingQuantity) {
+        int taken = decreaseAvailable(context, promotionSlot, remainingQuantity);
+        if (taken < remainingQuantity) {
+            throw new IllegalArgumentException(STOCK_EXCEEDED_ERROR);
+        }
+        return taken;
     }
 
-    private int calculateAvailableQuantity(Product product, int quantity) {
-        return Math.min(product.quantityValue(), quantity);
+    private int decreaseAvailable(CheckoutContext context, int slot, int quantity) {
+        int decreasable = Math.min(context.quantityOf(slot), quantity);
+        if (decreasable > 0) {
+            context.take(slot, decreasable);
+        }
+        return Math.max(0, decreasable);
     }
 
-    private int getPromotionDivisor(String promotionName) {
-        if (promotionService.isTwoPlusOnePromotion(promotionName)) {
-            return 3;
+    private StockHold hold(Product product, int quantity) {
+        if (product == null || quantity <= 0) {
+            return StockHold.NONE;
         }
-        return 2;
+        return new StockHold(product, quantity);
     }
 
-    private ProcessedQuantity processPromotionSets(Product product, int quantity, int availableQuantity,
-                                                   int promotionDivisor) {
-        int maxSets = availableQuantity / promotionDivisor;
-        int useQuantity = maxSets * promotionDivisor;
-        if (useQuantity <= 0) {
+    private ProcessedQuantity processPromotionQuantity(CheckoutContext context, StockLine line, int quantity) {
+        long startedAt = StoreMetrics.PROMOTION_EVALUATION.start();
+        PromotionEvaluationEvent event = PromotionEvaluationEvent.start();
+        ProcessedQuantity processed = takePromotionQuantity(context, line, quantity);
+        event.commitLine(line.firstProduct().nameValue(), line.activePromotion(), quantity, processed.giftQuantity());
+        StoreMetrics.PROMOTION_EVALUATION.stop(startedAt);
+        return processed;
+    }
+
+    private ProcessedQuantity takePromotionQuantity(CheckoutContext context, StockLine line, int quantity) {
+        Promotion promotion = line.activePromotion();
+        if (promotion == null) {
             return new ProcessedQuantity(0, quantity);
         }
-        product.decreaseQuantity(availableQuantity);
-        return new ProcessedQuantity(maxSets, quantity - availableQuantity);
+        int availableQuantity = Math.min(context.quantityOf(line.promotionSlot()), quantity);
+        if (promotion.countBundles(availableQuantity) <= 0) {
+            return new ProcessedQuantity(0, quantity);
+        }
+        context.take(line.promotionSlot(), availableQuantity);
+        return new ProcessedQuantity(promotion.calculateGiftQuantity(availableQuantity), quantity - availableQuantity);
     }
 
     public boolean shouldShowNonPromotionalWarning(String productName, int quantity) {
-        Product promotionProduct = findPromotionProduct(products.findAllByName(productName));
-        return isPromotionalWarningRequired(promotionProduct, quantity);
+        CheckoutContext context = newContext();
+        return isPromotionalWarningRequired(context, context.line(productName), quantity);
     }
 
-    private boolean isPromotionalWarningRequired(Product promotionProduct, int quantity) {
-        return promotionProduct != null && quantity > promotionProduct.quantityValue();
+    private boolean isPromotionalWarningRequired(CheckoutContext context, StockLine line, int quantity) {
+        return line.promotionProduct() != null && quantity > context.quantityOf(line.promotionSlot());
     }
 
     public int calculateNonPromotionalQuantity(String productName, int quantity) {
-        Product promotionProduct = findPromotionProduct(products.findAllByName(productName));
-        if (promotionProduct == null) {
+        CheckoutContext context = newContext();
+        return calculateNonPromotionalQuantity(context, context.line(productName), quantity);
+    }
+
+    private int calculateNonPromotionalQuantity(CheckoutContext context, StockLine line, int quantity) {
+        if (line.promotionProduct() == null) {
             return 0;
         }
-        return calculateExcessQuantity(promotionProduct, quantity);
+        if (line.promotion() == null) {
+            return quantity;
+        }
+        int usablePromotionQuantity = line.promotion().calculateBundledQuantity(
+                context.quantityOf(line.promotionSlot()));
+        return Math.max(0, quantity - usablePromotionQuantity);
     }
 
-    private int calculateExcessQuantity(Product product, int quantity) {
-        int promotionStock = product.quantityValue();
-        int promotionDivisor = getPromotionDivisor(product.promotionNameValue());
-        int usablePromotionQuantity = (promotionStock / promotionDivisor) * promotionDivisor;
-        return Math.max(0, quantity - usablePromotionQuantity);
+    public Product findProduct(String productName) {
+        return catalogs.current().products().findByName(productName)
+                .orElseThrow(() -> new IllegalArgumentException(PRODUCT_NOT_FOUND_ERROR));
     }
 
-    private Product findPromotionProduct(List<Product> products) {
-        return products.stream()
-                .filter(Product::hasPromotion)
-                .findFirst()
-                .orElse(null);
+    public Product findProduct(OrderLines orderLines, int line) {
+        return findProduct(catalogs.current().products(), orderLines, line);
     }
 
-    public Product findProduct(String productName) {
-        return products.findByName(productName)
+    private static Product findProduct(Products products, OrderLines orderLines, int line) {
+        return products.groupOf(orderLines.productIdOf(line, products)).firstProduct()
                 .orElseThrow(() -> new IllegalArgumentException(PRODUCT_NOT_FOUND_ERROR));
     }
 
-    private Receipt createReceipt(List<ReceiptItem> items, boolean useMembership) {
-        int promotionDiscount = promotionService.calculateTotalDiscount(items);
-        return new Receipt(items, promotionDiscount, useMembership, promotionService);
+    // 상품과 프로모션을 같은 카탈로그에서 찾는다
+    public int calculateAddableGiftQuantity(OrderLines orderLines, int line) {
+        Catalog catalog = catalogs.current();
+        Product product = findProduct(catalog.products(), orderLines, line);
+        return catalog.promotionService().calculateAddableGiftQuantity(product, orderLines.quantityOf(line));
+    }
+
+    // Map 으로 받는 기존 호출자용. 주문 줄로 한 번 옮긴 뒤에는 같은 경로를 탄다
+    private static OrderLines toOrderLines(Map<String, Integer> orderItems) {
+        if (orderItems == null) {
+            return null;
+        }
+        return OrderLines.of(orderItems);
     }
 
     private record ProcessedQuantity(int giftQuantity, int remainingQuantity) {
     }
-}
\ No newline at end of file
+
+    private record ReservedStock(Catalog catalog, List<ReservedItem> items) {
+    }
+
+    private record ReservedOrder(List<ReservedItem> items, Catalog catalog, boolean useMembership,
+                                 String errorMessage) {
+    }
+}
@@ -6,11 +6,19 @@ import store.domain.product.Product;
 import store.domain.product.Products;
 
 public class ProductService {
+    private static final String COLUMNAR_PROPERTY = "store.products.columnar";
+
     private final Products products;
 
     public ProductService() {
-        List<Product> productList = FileLoader.loadProducts();
-        this.products = new Products(productList);
+        this.products = createProducts(FileLoader.loadProducts());
+    }
+
+    private static Products createProducts(List<Product> productList) {
+        if (Boolean.getBoolean(COLUMNAR_PROPERTY)) {
+            return Products.columnar(productList);
+        }
+        return new Products(productList);
     }
 
     public List<String> createProductDescriptions() {
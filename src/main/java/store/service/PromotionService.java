@@ -2,94 +2,93 @@ package store.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import store.FileLoader;
 import store.domain.product.Product;
 import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionClock;
+import store.domain.promotion.PromotionSchedule;
 import store.domain.receipt.ReceiptItem;
+import store.jfr.PromotionEvaluationEvent;
 
 public class PromotionService {
-    private static final String MD_PROMOTION = "MD추천상품";
-    private static final String FLASH_SALE = "반짝할인";
-    private static final String CARBONATE_PROMOTION = "탄산2+1";
-    private static final int TWO_PLUS_ONE_DIVISOR = 3;
-    private static final int ONE_PLUS_ONE_DIVISOR = 2;
-
     private final Map<String, Promotion> promotions;
+    private final PromotionSchedule schedule;
+    private final Map<String, Boolean> promotionProductNames = new ConcurrentHashMap<>();
 
     public PromotionService() {
-        this.promotions = FileLoader.loadPromotions();
-    }
-
-    public int calculateTotalDiscount(List<ReceiptItem> items) {
-        return items.stream()
-                .mapToInt(this::calculateItemDiscount)
-                .sum();
+        this(FileLoader.loadPromotions());
     }
 
-    private int calculateItemDiscount(ReceiptItem item) {
-        if (!item.hasGift()) {
-            return 0;
-        }
-        return calculateGiftDiscount(item);
+    public PromotionService(Map<String, Promotion> promotions) {
+        this(promotions, PromotionClock.SYSTEM);
     }
 
-    private int calculateGiftDiscount(ReceiptItem item) {
-        return item.giftQuantityValue() * item.priceValue();
+    public PromotionService(Map<String, Promotion> promotions, PromotionClock clock) {
+        this.promotions = promotions;
+        this.schedule = PromotionSchedule.startDaily(clock);
     }
 
-    public boolean canAddMoreItems(Product product, int quantity) {
-        if (!isValidForPromotion(product)) {
-            return false;
+    public long calculateTotalDiscount(List<ReceiptItem> items) {
+        PromotionEvaluationEvent event = PromotionEvaluationEvent.start();
+        long discount = 0;
+        for (ReceiptItem item : items) {
+            discount = Math.addExact(discount, calculateGiftDiscount(item));
         }
-        return checkPromotionAvailability(product, quantity);
+        event.commitDiscount(items.size(), discount);
+        return discount;
     }
 
-    private boolean checkPromotionAvailability(Product product, int quantity) {
-        String promotionName = product.promotionNameValue();
-        int requiredQuantity = calculatePromotionQuantity(promotionName);
-        int remainingQuantity = quantity % requiredQuantity;
-        return isValidRemainingQuantity(promotionName, remainingQuantity)
-                && product.hasEnoughStock(quantity + 1);
+    private long calculateGiftDiscount(ReceiptItem item) {
+        return (long) item.giftQuantityValue() * item.priceValue();
     }
 
-    private boolean isValidForPromotion(Product product) {
-        return product != null && product.hasPromotion();
+    // 증정 수량만큼 더 담으면 묶음이 완성되고 재고도 충분하면 더 받을 수 있는 증정 수량을, 아니면 0을 돌려준다
+    public int calculateAddableGiftQuantity(Product product, int quantity) {
+        PromotionEvaluationEvent event = PromotionEvaluationEvent.start();
+        int giftQuantity = findAddableGiftQuantity(product, quantity);
+        event.commitGift(product.nameValue(), product.promotionNameValue(), quantity, giftQuantity);
+        return giftQuantity;
     }
 
-    private int calculatePromotionQuantity(String promotionName) {
-        if (isTwoPlusOnePromotion(promotionName)) {
-            return TWO_PLUS_ONE_DIVISOR;
+    private int findAddableGiftQuantity(Product product, int quantity) {
+        Promotion promotion = findProductPromotion(product);
+        if (promotion == null || !promotion.isMissingGift(quantity)) {
+            return 0;
         }
-        return ONE_PLUS_ONE_DIVISOR;
+        int giftQuantity = promotion.giftQuantityValue();
+        if (!product.hasEnoughStock(quantity + giftQuantity)) {
+            return 0;
+        }
+        return giftQuantity;
     }
 
-    private boolean isValidRemainingQuantity(String promotionName, int remainingQuantity) {
-        int requiredRemaining = calculateRequiredRemaining(promotionName);
-        return remainingQuantity == requiredRemaining;
+    public Promotion findProductPromotion(Product product) {
+        if (product == null || !product.hasPromotion()) {
+            return null;
+        }
+        return findPromotion(product.promotionNameValue());
     }
 
-    private int calculateRequiredRemaining(String promotionName) {
-        if (isTwoPlusOnePromotion(promotionName)) {
-            return 2;
+    public Promotion findActivePromotion(Product product) {
+        Promotion promotion = findProductPromotion(product);
+        if (promotion == null || !schedule.isActive(promotion)) {
+            return null;
         }
-        return 1;
+        return promotion;
     }
 
     public Promotion findPromotion(String promotionName) {
         return promotions.get(promotionName);
     }
 
+    // 상품 이름마다 한 번만 프로모션 이름들과 대조한다
     public boolean isPromotionProduct(String productName) {
-        return containsAnyPromotion(productName);
+        return promotionProductNames.computeIfAbsent(productName, this::containsAnyPromotion);
     }
 
     private boolean containsAnyPromotion(String productName) {
-        return productName.contains(MD_PROMOTION)
-                || productName.contains(FLASH_SALE)
-                || productName.contains(CARBONATE_PROMOTION);
-    }
-
-    public boolean isTwoPlusOnePromotion(String promotionName) {
-        return CARBONATE_PROMOTION.equals(promotionName);
+        return promotions.keySet().stream()
+                .anyMatch(productName::contains);
     }
 }
\ No newline at end of file
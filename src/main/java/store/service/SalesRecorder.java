@@ -0,0 +1,31 @@
+package store.service;
+
+import java.util.List;
+import store.domain.product.Products;
+import store.domain.receipt.Receipt;
+import store.domain.reservation.ReservedItem;
+
+// 확정된 판매를 기록한다. record 가 반환되면 판매가 영속화된 것으로 본다
+public interface SalesRecorder extends AutoCloseable {
+    SalesRecorder NONE = (items, receipt) -> {
+    };
+
+    void record(List<ReservedItem> items, Receipt receipt);
+
+    // 일괄 결제는 여러 판매를 한 번에 넘긴다. 구현은 이를 한 번의 영속화로 묶을 수 있다
+    default void recordAll(List<CompletedSale> sales) {
+        sales.forEach(sale -> record(sale.items(), sale.receipt()));
+    }
+
+    // 카탈로그를 바꾸는 동안 이전 카탈로그의 모든 재고 락을 쥔 채 불린다. 이후 판매는 products 기준으로 기록한다
+    default void catalogSwapped(Products products) {
+    }
+
+    // 아직 쓰지 않은 판매를 모두 쓴 뒤 자원을 놓는다
+    @Override
+    default void close() {
+    }
+
+    record CompletedSale(List<ReservedItem> items, Receipt receipt) {
+    }
+}
@@ -0,0 +1,44 @@
+package store.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+// 질문을 받은 순서대로 미리 정한 답을 하나씩 꺼낸다. 답이 모자라면 시나리오 오류로 본다
+public class ScriptedCustomerPolicy implements CustomerPolicy {
+    private static final String SCRIPT_EXHAUSTED_ERROR = "준비된 고객 응답이 없습니다.";
+
+    private final Deque<Boolean> answers = new ArrayDeque<>();
+
+    public ScriptedCustomerPolicy(boolean... answers) {
+        for (boolean answer : answers) {
+            this.answers.add(answer);
+        }
+    }
+
+    @Override
+    public boolean acceptAdditionalGift(String productName, int giftQuantity) {
+        return nextAnswer();
+    }
+
+    @Override
+    public boolean acceptNonPromotionalPurchase(String productName, int quantity) {
+        return nextAnswer();
+    }
+
+    @Override
+    public boolean useMembership() {
+        return nextAnswer();
+    }
+
+    public int remainingAnswers() {
+        return answers.size();
+    }
+
+    private boolean nextAnswer() {
+        Boolean answer = answers.poll();
+        if (answer == null) {
+            throw new IllegalStateException(SCRIPT_EXHAUSTED_ERROR);
+        }
+        return answer;
+    }
+}
@@ -0,0 +1,26 @@
+package store.view;
+
+import store.service.CustomerPolicy;
+
+public class ConsoleCustomerPolicy implements CustomerPolicy {
+    private final InputView inputView;
+
+    public ConsoleCustomerPolicy(InputView inputView) {
+        this.inputView = inputView;
+    }
+
+    @Override
+    public boolean acceptAdditionalGift(String productName, int giftQuantity) {
+        return inputView.readAdditionalPurchase(productName, giftQuantity);
+    }
+
+    @Override
+    public boolean acceptNonPromotionalPurchase(String productName, int quantity) {
+        return inputView.confirmNonPromotionalPurchase(productName, quantity);
+    }
+
+    @Override
+    public boolean useMembership() {
+        return inputView.readMembershipOption();
+    }
+}
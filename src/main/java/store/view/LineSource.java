@@ -0,0 +1,31 @@
+package store.view;
+
+import camp.nextstep.edu.missionutils.Console;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+// 한 세션의 입력 줄 공급원. 스트림이 끝나면 Console 과 같이 NoSuchElementException 을 던진다
+@FunctionalInterface
+public interface LineSource {
+    LineSource CONSOLE = Console::readLine;
+
+    String readLine();
+
+    static LineSource of(BufferedReader reader) {
+        return () -> readRequiredLine(reader);
+    }
+
+    private static String readRequiredLine(BufferedReader reader) {
+        try {
+            String line = reader.readLine();
+            if (line == null) {
+                throw new NoSuchElementException();
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package store.view;
+
+import store.domain.order.OrderLines;
+import store.domain.product.Products;
+
+/*
+ * "[상품명-수량],[상품명-수량]" 주문 입력을 커서로 한 번 훑어 OrderLines 로 만든다.
+ * 대괄호 제거 → 쉼표 분리 → 하이픈 분리로 처리하던 예전 파서와 같은 입력을 받고 같은 오류 메시지를 낸다.
+ *  - 대괄호는 입력 어디에 있든 없는 글자로 본다
+ *  - 끝에 붙은 빈 항목, 항목 끝에 붙은 빈 하이픈 조각은 무시한다 (String.split 과 같다)
+ * 상품명은 카탈로그에 같은 이름이 있으면 그 문자열을 그대로 쓰고, 없을 때만 새 문자열을 만든다.
+ */
+public final class OrderInputParser {
+    private static final String EMPTY_ORDER_ERROR = "올바르지 않은 형식으로 입력했습니다. 다시 입력해 주세요.";
+    private static final String EXCEPTION_ERROR = "잘못된 입력입니다. 다시 입력해 주세요.";
+    private static final char OPEN = '[';
+    private static final char CLOSE = ']';
+    private static final char ITEM_DELIMITER = ',';
+    private static final char QUANTITY_DELIMITER = '-';
+    private static final int DECIMAL = 10;
+
+    private final Products products;
+
+    public OrderInputParser() {
+        this(null);
+    }
+
+    public OrderInputParser(Products products) {
+        this.products = products;
+    }
+
+    public OrderLines parse(String input) {
+        validateInput(input);
+        int contentEnd = contentEnd(input);
+        validateItems(input, contentEnd);
+        return parseItems(input, contentEnd);
+    }
+
+    private OrderLines parseItems(String input, int contentEnd) {
+        OrderLines.Builder orders = new OrderLines.Builder();
+        int start = 0;
+        while (start < contentEnd) {
+            int end = indexOf(input, ITEM_DELIMITER, start, contentEnd);
+            parseItem(input, start, end, orders);
+            start = end + 1;
+        }
+        return orders.build();
+    }
+
+    private void validateInput(String input) {
+        if (input == null || input.trim().isEmpty()) {
+            throw new IllegalArgumentException(EXCEPTION_ERROR);
+        }
+        if (input.charAt(0) != OPEN || input.charAt(input.length() - 1) != CLOSE) {
+            throw new IllegalArgumentException(EXCEPTION_ERROR);
+        }
+    }
+
+    // 마지막 항목 내용 뒤로는 대괄호와 쉼표뿐이다. 그 뒤의 빈 항목은 없는 것으로 본다
+    private static int contentEnd(String input) {
+        int end = input.length();
+        while (end > 0 && (isBracket(input.charAt(end - 1)) || input.charAt(end - 1) == ITEM_DELIMITER)) {
+            end--;
+        }
+        return end;
+    }
+
+    // 내용이 하나도 없으면 쉼표가 있을 때는 항목이 없는 입력, 없을 때는 빈 항목 하나로 본다
+    private static void validateItems(String input, int contentEnd) {
+        if (contentEnd > 0) {
+            return;
+        }
+        if (input.indexOf(ITEM_DELIMITER) >= 0) {
+            throw new IllegalArgumentException(EXCEPTION_ERROR);
+        }
+        throw new IllegalArgumentException(EMPTY_ORDER_ERROR);
+    }
+
+    // 수량 조각 뒤에 하이픈 아닌 글자가 있으면 조각이 셋 이상인 것이다
+    private void parseItem(String input, int start, int end, OrderLines.Builder orders) {
+        int dash = indexOf(input, QUANTITY_DELIMITER, start, end);
+        int quantityEnd = indexOf(input, QUANTITY_DELIMITER, Math.min(dash + 1, end), end);
+        if (dash == end || isBlank(input, dash + 1, quantityEnd) || !isDashesOnly(input, quantityEnd, end)) {
+            throw new IllegalArgumentException(EMPTY_ORDER_ERROR);
+        }
+        String name = parseName(input, start, dash);
+        orders.add(name, parseQuantity(input, dash + 1, quantityEnd));
+    }
+
+    private String parseName(String input, int start, int end) {
+        int nameStart = trimStart(input, start, end);
+        int nameEnd = trimEnd(input, nameStart, end);
+        if (nameStart == nameEnd) {
+            throw new IllegalArgumentException(EXCEPTION_ERROR);
+        }
+        if (containsBracket(input, nameStart, nameEnd)) {
+            return withoutBrackets(input, nameStart, nameEnd);
+        }
+        return catalogName(input, nameStart, nameEnd);
+    }
+
+    private String catalogName(String input, int start, int end) {
+        if (products == null) {
+            return input.substring(start, end);
+        }
+        String name = products.findProductName(input, start, end);
+        if (name == null) {
+            return input.substring(start, end);
+        }
+        return name;
+    }
+
+    private int parseQuantity(String input, int start, int end) {
+        int quantityStart = trimStart(input, start, end);
+        int quantityEnd = trimEnd(input, quantityStart, end);
+        try {
+            int quantity = parseInt(input, quantityStart, quantityEnd);
+            validateQuantity(quantity);
+            return quantity;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(EMPTY_ORDER_ERROR);
+        }
+    }
+
+    private static int parseInt(String input, int start, int end) {
+        if (containsBracket(input, start, end)) {
+            return Integer.parseInt(withoutBrackets(input, start, end));
+        }
+        return Integer.parseInt(input, start, end, DECIMAL);
+    }
+
+    private static void validateQuantity(int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException(EMPTY_ORDER_ERROR);
+        }
+    }
+
+    private static int indexOf(String input, char target, int start, int end) {
+        int index = start;
+        while (index < end && input.charAt(index) != target) {
+            index++;
+        }
+        return index;
+    }
+
+    // 대괄호를 뺀 글자가 하나도 없으면 빈 조각이다
+    private static boolean isBlank(String input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isBracket(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDashesOnly(String input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (input.charAt(i) != QUANTITY_DELIMITER && !isBracket(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // String.trim 처럼 공백 이하의 글자를 앞뒤에서 뺀다. 대괄호도 함께 건너뛴다
+    private static int trimStart(String input, int start, int end) {
+        int index = start;
+        while (index < end && isSkippable(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int trimEnd(String input, int start, int end) {
+        int index = end;
+        while (index > start && isSkippable(input.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+
+    private static boolean isSkippable(char c) {
+        return c <= ' ' || isBracket(c);
+    }
+
+    private static boolean containsBracket(String input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (isBracket(input.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String withoutBrackets(String input, int start, int end) {
+        StringBuilder text = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            appendUnlessBracket(text, input.charAt(i));
+        }
+        return text.toString();
+    }
+
+    private static void appendUnlessBracket(StringBuilder text, char c) {
+        if (!isBracket(c)) {
+            text.append(c);
+        }
+    }
+
+    private static boolean isBracket(char c) {
+        return c == OPEN || c == CLOSE;
+    }
+}
@@ -0,0 +1,130 @@
+package store.view;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import store.domain.GroupedNumber;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptItem;
+
+/*
+ * 영수증 전체를 재사용하는 버퍼에 그린 뒤 출력 스트림의 문자셋으로 한 번에 인코딩해 한 번만 쓴다.
+ * println 으로 찍던 줄은 시스템 줄바꿈, printf 형식의 합계 줄은 \n 으로 끝내 예전 출력과 바이트 단위로 같다.
+ * 버퍼는 더 긴 영수증을 만날 때만 늘어나므로 세션 하나에 하나씩 둔다.
+ */
+public class ReceiptWriter {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    private static final String STORE_HEADER = "==============W 편의점================";
+    private static final String GIFT_HEADER = "=============증     정===============";
+    private static final String FOOTER = "====================================";
+    private static final String ORDER_HEADER = "상품명\t\t\t수량\t\t금액";
+    private static final String COLUMN_GAP = "\t\t\t";
+    private static final String AMOUNT_GAP = "\t\t";
+    private static final String TOTAL_LABEL = "총구매액\t\t\t";
+    private static final String PROMOTION_LABEL = "행사할인\t\t\t\t\t-";
+    private static final String MEMBERSHIP_LABEL = "멤버십할인\t\t\t\t-";
+    private static final String FINAL_LABEL = "내실돈\t\t\t\t\t ";
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final PrintStream out;
+    private final CharsetEncoder encoder;
+    private final StringBuilder text = new StringBuilder(INITIAL_CAPACITY);
+    private char[] chars = new char[INITIAL_CAPACITY];
+    private CharBuffer charView = CharBuffer.wrap(chars);
+    private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_CAPACITY);
+
+    public ReceiptWriter(PrintStream out) {
+        this.out = out;
+        this.encoder = out.charset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    public void write(Receipt receipt) {
+        render(receipt);
+        encode();
+        out.write(bytes.array(), 0, bytes.position());
+    }
+
+    public CharSequence render(Receipt receipt) {
+        text.setLength(0);
+        appendHeader();
+        appendOrderLines(receipt);
+        appendGiftLines(receipt);
+        appendLine(FOOTER);
+        appendSummary(receipt);
+        return text;
+    }
+
+    private void appendHeader() {
+        text.append(LINE_SEPARATOR);
+        appendLine(STORE_HEADER);
+        appendLine(ORDER_HEADER);
+    }
+
+    private void appendOrderLines(Receipt receipt) {
+        for (ReceiptItem item : receipt.itemsValue()) {
+            text.append(item.nameValue()).append(COLUMN_GAP).append(item.quantityValue()).append(AMOUNT_GAP);
+            GroupedNumber.appendTo(text, item.calculateAmount()).append(LINE_SEPARATOR);
+        }
+    }
+
+    private void appendGiftLines(Receipt receipt) {
+        boolean headerWritten = false;
+        for (ReceiptItem item : receipt.itemsValue()) {
+            headerWritten = appendGiftLine(item, headerWritten);
+        }
+    }
+
+    private boolean appendGiftLine(ReceiptItem item, boolean headerWritten) {
+        if (!item.hasGift()) {
+            return headerWritten;
+        }
+        if (!headerWritten) {
+            appendLine(GIFT_HEADER);
+        }
+        text.append(item.nameValue()).append(COLUMN_GAP).append(item.giftQuantityValue()).append(LINE_SEPARATOR);
+        return true;
+    }
+
+    private void appendSummary(Receipt receipt) {
+        text.append(TOTAL_LABEL).append(receipt.calculateTotalQuantity()).append(AMOUNT_GAP);
+        appendAmount(receipt.calculateTotalAmount());
+        text.append(PROMOTION_LABEL);
+        appendAmount(receipt.promotionDiscountValue());
+        text.append(MEMBERSHIP_LABEL);
+        appendAmount(receipt.calculateMembershipDiscount());
+        text.append(FINAL_LABEL);
+        appendAmount(receipt.calculateFinalAmount());
+    }
+
+    private void appendAmount(long amount) {
+        GroupedNumber.appendTo(text, amount).append('\n');
+    }
+
+    private void appendLine(String line) {
+        text.append(line).append(LINE_SEPARATOR);
+    }
+
+    private void encode() {
+        int length = text.length();
+        ensureCapacity(length);
+        text.getChars(0, length, chars, 0);
+        encoder.reset();
+        encoder.encode(charView.clear().limit(length), bytes.clear(), true);
+        encoder.flush(bytes);
+    }
+
+    private void ensureCapacity(int length) {
+        if (chars.length < length) {
+            chars = new char[length];
+            charView = CharBuffer.wrap(chars);
+        }
+        int maxBytes = (int) Math.ceil(length * (double) encoder.maxBytesPerChar());
+        if (bytes.capacity() < maxBytes) {
+            bytes = ByteBuffer.allocate(maxBytes);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.promotion.Promotion;
+import store.load.LoadProfile;
+import store.load.OrderSizeDistribution;
+import store.load.SyntheticStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileLoaderTest {
+    @Test
+    @DisplayName("지정한 경로의 상품 파일을 읽고 빈 줄과 CRLF 를 처리한다")
+    void loadProductsFromPath() throws IOException {
+        Path file = writeTempFile("name,price,quantity,promotion\r\n콜라,1000,10,탄산2+1\r\n\r\n콜라, 1000 ,5,null\r\n");
+
+        List<Product> products = FileLoader.loadProducts(file);
+
+        assertThat(products).hasSize(2);
+        assertThat(products.get(1).nameValue()).isEqualTo("콜라");
+        assertThat(products.get(1).priceValue()).isEqualTo(1000);
+        assertThat(products.get(1).promotionNameValue()).isEqualTo("null");
+    }
+
+    @Test
+    @DisplayName("잘못된 행은 줄 번호와 함께 예외가 발생한다")
+    void reportInvalidRowWithLineNumber() throws IOException {
+        Path file = writeTempFile("name,price,quantity,promotion\n콜라,1000,10,null\n사이다,천원,8,null\n");
+
+        assertThatThrownBy(() -> FileLoader.loadProducts(file))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("잘못된 상품 데이터 형식입니다. (3번째 줄)");
+    }
+
+    @Test
+    @DisplayName("프로모션 파일의 buy/get 값을 함께 읽는다")
+    void loadPromotionRule() throws IOException {
+        Path file = writeTempFile("name,buy,get,start_date,end_date\n주말3+2,3,2,2024-01-01,2024-12-31\n");
+
+        Map<String, Promotion> promotions = FileLoader.loadPromotions(file);
+
+        assertThat(promotions.get("주말3+2").buyQuantityValue()).isEqualTo(3);
+        assertThat(promotions.get("주말3+2").giftQuantityValue()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("큰 합성 카탈로그를 나눠 읽어도 순서대로 읽은 것과 같은 상품과 프로모션이 나온다")
+    void parallelLoadMatchesSequentialLoad() throws IOException {
+        Path directory = Files.createTempDirectory("parallel-load");
+        try {
+            Path file = SyntheticStore.writeProducts(directory, generatedProfile());
+
+            List<String> sequential = describe(FileLoader.loadProducts(file, 1));
+            List<String> parallel = describe(FileLoader.loadProducts(file, 4));
+
+            assertThat(parallel).hasSize(160_000);
+            assertThat(parallel).isEqualTo(sequential);
+        } finally {
+            SyntheticStore.deleteCatalog(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("나눠 읽다가 잘못된 행을 만나도 순서대로 읽을 때와 같은 줄 번호로 알린다")
+    void parallelLoadReportsSameInvalidRow() throws IOException {
+        Path directory = Files.createTempDirectory("parallel-load");
+        try {
+            Path file = SyntheticStore.writeProducts(directory, generatedProfile());
+            Files.writeString(file, "사이다,천원,8,null\n", StandardOpenOption.APPEND);
+
+            assertThatThrownBy(() -> FileLoader.loadProducts(file, 4))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("잘못된 상품 데이터 형식입니다. (160002번째 줄)");
+        } finally {
+            SyntheticStore.deleteCatalog(directory);
+        }
+    }
+
+    // 나눠 읽는 조각은 1MB 이상이므로 여러 조각이 나오도록 수 MB 의 파일을 만든다
+    private static LoadProfile generatedProfile() {
+        return new LoadProfile(120_000, 100, 1, 1, 1.0, OrderSizeDistribution.parse("1:1"), 1, 0, 0, 0, 5L);
+    }
+
+    private static List<String> describe(List<Product> products) {
+        return products.stream()
+                .map(product -> String.join(",", product.nameValue(), String.valueOf(product.priceValue()),
+                        String.valueOf(product.quantityValue()), product.promotionNameValue()))
+                .toList();
+    }
+
+    private Path writeTempFile(String content) throws IOException {
+        Path file = Files.createTempFile("products", ".md");
+        file.toFile().deleteOnExit();
+        return Files.writeString(file, content);
+    }
+}
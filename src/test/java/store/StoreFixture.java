@@ -0,0 +1,46 @@
+package store;
+
+import store.domain.product.Product;
+import store.domain.promotion.Promotion;
+import store.domain.promotion.PromotionClock;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 여러 테스트가 함께 쓰는 고정 시계와 작은 카탈로그
+public final class StoreFixture {
+    public static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    // 프로모션 기간 안의 한 시각에 멈춘 시계
+    public static final PromotionClock FIXED_CLOCK = () -> NOW;
+
+    private StoreFixture() {
+    }
+
+    // stockScale 배만큼 재고를 둔 상품 목록. 콜라와 사이다는 프로모션 재고와 일반 재고가 따로 있다
+    public static List<Product> createProducts(int stockScale) {
+        return List.of(
+                new Product("콜라", 1000, 20 * stockScale, "탄산2+1"),
+                new Product("콜라", 1000, 10 * stockScale, "null"),
+                new Product("사이다", 1000, 15 * stockScale, "탄산2+1"),
+                new Product("사이다", 1000, 5 * stockScale, "null"),
+                new Product("물", 500, 30 * stockScale, "null"),
+                new Product("감자칩", 1500, 8 * stockScale, "MD추천상품")
+        );
+    }
+
+    public static Map<String, Promotion> createPromotions() {
+        return Map.of(
+                "탄산2+1", new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)),
+                "MD추천상품", new Promotion("MD추천상품", 1, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))
+        );
+    }
+
+    public static int totalStock(List<Product> productList) {
+        return productList.stream()
+                .mapToInt(Product::quantityValue)
+                .sum();
+    }
+}
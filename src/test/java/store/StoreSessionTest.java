@@ -0,0 +1,72 @@
+package store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.product.Products;
+import store.service.CheckoutEngine;
+import store.service.OrderService;
+import store.service.PromotionService;
+import store.view.InputView;
+import store.view.OutputView;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreSessionTest {
+    private static final int PURCHASE_COUNT = 20_000;
+    private static final long SMALL_STACK_SIZE = 256 * 1024;
+
+    @Test
+    @DisplayName("작은 스택에서 수만 번 이어서 구매해도 호출 깊이가 늘지 않는다")
+    void longSessionRunsInConstantStackDepth() throws Exception {
+        Products products = new Products(List.of(new Product("물", 500, PURCHASE_COUNT, "null")));
+        List<String> script = new ArrayList<>();
+        for (int i = 0; i < PURCHASE_COUNT; i++) {
+            script.addAll(List.of("[물-1]", "N", "Y"));
+        }
+        script.set(script.size() - 1, "N");
+
+        Throwable failure = runOnSmallStack(createSession(products, script, SessionTimer.NONE));
+
+        assertThat(failure).isNull();
+        assertThat(products.findNormalProduct("물").quantityValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("상태마다 걸린 시간을 진행 순서대로 알린다")
+    void recordEachState() {
+        Products products = new Products(List.of(new Product("물", 500, 10, "null")));
+        List<SessionState> states = new ArrayList<>();
+
+        createSession(products, List.of("[물-1]", "N", "N"), (state, elapsedNanos) -> states.add(state)).run();
+
+        assertThat(states).containsExactly(SessionState.BROWSE, SessionState.ORDER, SessionState.PROMOTION_PROMPT,
+                SessionState.MEMBERSHIP, SessionState.RECEIPT, SessionState.CONTINUE);
+    }
+
+    private StoreSession createSession(Products products, List<String> script, SessionTimer timer) {
+        PromotionService promotionService = new PromotionService(Map.of(), StoreFixture.FIXED_CLOCK);
+        OrderService orderService = new OrderService(products, promotionService);
+        CheckoutEngine checkoutEngine = new CheckoutEngine(orderService, Duration.ofMinutes(1));
+        PrintStream out = new PrintStream(OutputStream.nullOutputStream());
+        InputView inputView = new InputView(script.iterator()::next, out);
+        return new StoreSession(products, checkoutEngine, inputView, new OutputView(out), timer);
+    }
+
+    private Throwable runOnSmallStack(StoreSession session) throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(null, session::run, "small-stack-session", SMALL_STACK_SIZE);
+        thread.setUncaughtExceptionHandler((ignored, e) -> failure.set(e));
+        thread.start();
+        thread.join();
+        return failure.get();
+    }
+}
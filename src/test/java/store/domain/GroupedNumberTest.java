@@ -0,0 +1,28 @@
+package store.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupedNumberTest {
+    @Test
+    @DisplayName("세 자리 쉼표 표기가 String.format 과 같다")
+    void matchesStringFormat() {
+        Random random = new Random(11);
+        long[] edges = {0, 9, 10, 999, 1_000, -1_000, 999_999, 1_000_000, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : edges) {
+            assertThat(format(value)).isEqualTo(String.format("%,d", value));
+        }
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextLong() >> random.nextInt(64);
+            assertThat(format(value)).isEqualTo(String.format("%,d", value));
+        }
+    }
+
+    private String format(long value) {
+        return GroupedNumber.appendTo(new StringBuilder(), value).toString();
+    }
+}
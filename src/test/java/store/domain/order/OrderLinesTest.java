@@ -0,0 +1,48 @@
+package store.domain.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.product.Products;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderLinesTest {
+    @Test
+    @DisplayName("같은 상품을 다시 입력하면 처음 자리에서 나중 수량으로 바뀐다")
+    void duplicateNameKeepsFirstPosition() {
+        OrderLines lines = new OrderLines.Builder()
+                .add("콜라", 2)
+                .add("물", 1)
+                .add("콜라", 5)
+                .build();
+
+        assertThat(lines.namesValue()).containsExactly("콜라", "물");
+        assertThat(lines.quantityOf(0)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("수량을 바꾸면 원래 주문은 그대로 두고 새 주문을 만든다")
+    void withQuantityCopies() {
+        OrderLines lines = new OrderLines.Builder().add("콜라", 2).build();
+
+        OrderLines updated = lines.withQuantity(0, 3);
+
+        assertThat(lines.quantityOf(0)).isEqualTo(2);
+        assertThat(updated.quantityOf(0)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("상품 번호는 처리하는 카탈로그 기준으로 찾는다")
+    void resolvesAgainstEachCatalog() {
+        Products first = new Products(List.of(new Product("콜라", 1000, 10, "null"), new Product("물", 500, 10, "null")));
+        Products second = new Products(List.of(new Product("물", 500, 10, "null")));
+        OrderLines lines = new OrderLines.Builder().add("물", 1).add("없는상품", 1).build();
+
+        assertThat(lines.productIdOf(0, first)).isEqualTo(1);
+        assertThat(lines.productIdOf(0, second)).isEqualTo(0);
+        assertThat(lines.productIdOf(1, second)).isEqualTo(Products.UNKNOWN_PRODUCT);
+    }
+}
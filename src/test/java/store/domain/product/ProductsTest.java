@@ -0,0 +1,123 @@
+package store.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductsTest {
+    private static final List<String> NAMES = List.of("콜라", "사이다", "오렌지주스", "컵라면", "정식도시락");
+
+    @Test
+    @DisplayName("재고가 바뀐 줄만 다시 그려도 전체를 새로 그린 목록과 같다")
+    void incrementalRenderingMatchesFullRendering() {
+        Random random = new Random(7);
+        List<Product> productList = createProducts(random);
+        Products products = new Products(productList);
+
+        for (int round = 0; round < 500; round++) {
+            changeRandomStock(productList, random);
+            assertThat(products.describeAllProducts()).containsExactlyElementsOf(describeWithFormat(productList));
+        }
+    }
+
+    @Test
+    @DisplayName("재고가 바뀌지 않으면 이전 목록을 그대로 돌려준다")
+    void reuseUnchangedCatalog() {
+        Products products = new Products(createProducts(new Random(7)));
+        List<String> first = products.describeAllProducts();
+
+        assertThat(products.describeAllProducts()).isSameAs(first);
+
+        products.findByName("콜라").orElseThrow().increaseQuantity(1);
+        assertThat(products.describeAllProducts()).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("열 저장소 카탈로그도 같은 재고 변화에 같은 목록과 집계를 낸다")
+    void columnarCatalogMatchesObjectCatalog() {
+        Random random = new Random(11);
+        List<Product> productList = createProducts(random);
+        Products products = new Products(productList);
+        Products columnar = Products.columnar(createProducts(new Random(11)));
+
+        for (int round = 0; round < 500; round++) {
+            int seed = random.nextInt();
+            changeRandomStock(productList, new Random(seed));
+            changeRandomStock(columnar.productsValue(), new Random(seed));
+            assertThat(columnar.describeAllProducts()).containsExactlyElementsOf(products.describeAllProducts());
+            assertThat(columnar.totalQuantity()).isEqualTo(products.totalQuantity());
+            assertThat(columnar.countQuantityBelow(2)).isEqualTo(products.countQuantityBelow(2));
+        }
+    }
+
+    @Test
+    @DisplayName("열 저장소로 옮겨도 넘겨준 상품의 재고는 바뀌지 않는다")
+    void columnarCatalogCopiesProducts() {
+        List<Product> productList = createProducts(new Random(7));
+        Products columnar = Products.columnar(productList);
+        Product cola = columnar.findPromotionProduct("콜라");
+        int before = productList.get(0).quantityValue();
+
+        cola.increaseQuantity(5);
+
+        assertThat(cola.quantityValue()).isEqualTo(before + 5);
+        assertThat(productList.get(0).quantityValue()).isEqualTo(before);
+        assertThat(cola.promotionNameValue()).isEqualTo("탄산2+1");
+        assertThat(columnar.findNormalProduct("물").hasPromotion()).isFalse();
+    }
+
+    private List<Product> createProducts(Random random) {
+        List<Product> products = new ArrayList<>();
+        for (String name : NAMES) {
+            int price = random.nextInt(1, 2_000_000);
+            products.add(new Product(name, price, random.nextInt(0, 5), "탄산2+1"));
+            products.add(new Product(name, price, random.nextInt(0, 5), "null"));
+        }
+        products.add(new Product("물", 500, 3, "null"));
+        products.add(new Product("감자칩", 1500, 2, "반짝할인"));
+        return products;
+    }
+
+    private void changeRandomStock(List<Product> productList, Random random) {
+        Product product = productList.get(random.nextInt(productList.size()));
+        if (random.nextBoolean() && product.quantityValue() > 0) {
+            product.decreaseQuantity(1);
+            return;
+        }
+        product.increaseQuantity(1);
+    }
+
+    // 캐시를 도입하기 전의 String.format 기반 출력
+    private List<String> describeWithFormat(List<Product> productList) {
+        return productList.stream()
+                .map(product -> describeWithFormat(product, productList))
+                .toList();
+    }
+
+    private String describeWithFormat(Product product, List<Product> productList) {
+        String promotion = "";
+        if (product.hasPromotion()) {
+            promotion = product.promotionNameValue();
+        }
+        if (product.quantityValue() == 0) {
+            return String.format("- %s %,d원 재고 없음 %s", product.nameValue(), product.priceValue(), promotion);
+        }
+        String line = String.format("- %s %,d원 %d개 %s", product.nameValue(), product.priceValue(),
+                product.quantityValue(), promotion);
+        if (product.hasPromotion() && !hasNormalStock(product, productList)) {
+            return String.format("%s\n- %s %,d원 재고 없음", line, product.nameValue(), product.priceValue());
+        }
+        return line;
+    }
+
+    private boolean hasNormalStock(Product product, List<Product> productList) {
+        return productList.stream()
+                .filter(other -> other.matchesName(product.nameValue()))
+                .anyMatch(other -> !other.hasPromotion() && other.quantityValue() > 0);
+    }
+}
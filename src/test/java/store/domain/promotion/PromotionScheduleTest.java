@@ -0,0 +1,89 @@
+package store.domain.promotion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromotionScheduleTest {
+    private final Promotion flashSale = new Promotion("반짝할인", 1, 1,
+            LocalDate.of(2024, 11, 1), LocalDate.of(2024, 11, 30));
+    private FakeClock clock;
+    private PromotionSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        clock = new FakeClock(LocalDate.of(2024, 10, 31).atTime(23, 59, 59));
+        schedule = new PromotionSchedule(clock);
+    }
+
+    @Test
+    @DisplayName("시작일 전날에는 비활성이고 자정이 지나면 시작일부터 활성이다")
+    void rollsOverAtStartDate() {
+        assertThat(schedule.isActive(flashSale)).isFalse();
+
+        clock.advance(Duration.ofSeconds(1));
+        schedule.rollOver();
+
+        assertThat(schedule.todayValue()).isEqualTo(LocalDate.of(2024, 11, 1));
+        assertThat(schedule.isActive(flashSale)).isTrue();
+    }
+
+    @Test
+    @DisplayName("종료일 당일까지 활성이고 다음 날부터 비활성이다")
+    void endsAfterEndDate() {
+        clock.advance(Duration.ofDays(30));
+        schedule.rollOver();
+        assertThat(schedule.todayValue()).isEqualTo(LocalDate.of(2024, 11, 30));
+        assertThat(schedule.isActive(flashSale)).isTrue();
+
+        clock.advance(Duration.ofDays(1));
+        schedule.rollOver();
+
+        assertThat(schedule.isActive(flashSale)).isFalse();
+    }
+
+    @Test
+    @DisplayName("날짜를 넘기면 다음 자정까지 남은 시간을 돌려준다")
+    void rollOverReturnsTimeUntilMidnight() {
+        assertThat(schedule.rollOver()).isEqualTo(Duration.ofSeconds(1));
+
+        clock.advance(Duration.ofHours(12));
+
+        assertThat(schedule.rollOver()).isEqualTo(Duration.ofHours(12).plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("날짜를 넘기기 전에는 시계를 다시 읽지 않는다")
+    void readsClockOncePerDay() {
+        schedule.isActive(flashSale);
+        schedule.isActive(flashSale);
+        schedule.todayValue();
+
+        assertThat(clock.reads).isEqualTo(1);
+    }
+
+    private static class FakeClock implements PromotionClock {
+        private LocalDateTime now;
+        private int reads;
+
+        FakeClock(LocalDateTime now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public LocalDateTime now() {
+            reads++;
+            return now;
+        }
+    }
+}
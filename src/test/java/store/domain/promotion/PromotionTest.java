@@ -0,0 +1,35 @@
+package store.domain.promotion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromotionTest {
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    @Test
+    @DisplayName("2+1 프로모션은 세 개 묶음마다 한 개를 증정한다")
+    void twoPlusOne() {
+        Promotion promotion = new Promotion("탄산2+1", 2, 1, START, END);
+
+        assertThat(promotion.calculateGiftQuantity(7)).isEqualTo(2);
+        assertThat(promotion.calculateBundledQuantity(7)).isEqualTo(6);
+        assertThat(promotion.isMissingGift(5)).isTrue();
+        assertThat(promotion.isMissingGift(6)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이름과 상관없이 buy/get 값으로 N+M 규칙을 계산한다")
+    void arbitraryRule() {
+        Promotion promotion = new Promotion("주말3+2", 3, 2, START, END);
+
+        assertThat(promotion.calculateGiftQuantity(11)).isEqualTo(4);
+        assertThat(promotion.calculateBundledQuantity(11)).isEqualTo(10);
+        assertThat(promotion.isMissingGift(8)).isTrue();
+        assertThat(promotion.isMissingGift(4)).isFalse();
+    }
+}
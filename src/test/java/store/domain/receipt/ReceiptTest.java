@@ -0,0 +1,45 @@
+package store.domain.receipt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.service.PromotionService;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptTest {
+    private final PromotionService promotionService = new PromotionService(Map.of());
+
+    @Test
+    @DisplayName("int 범위를 넘는 대량 주문도 합계가 넘치지 않는다")
+    void totalsDoNotOverflow() {
+        List<ReceiptItem> items = List.of(
+                new ReceiptItem("정식도시락", 1_000_000, 6_400, 0),
+                new ReceiptItem("에너지바", 1_000_000, 2_000, 0)
+        );
+
+        Receipt receipt = new Receipt(items, 0, false, promotionService);
+
+        assertThat(receipt.calculateTotalAmount()).isEqualTo(8_400_000_000L);
+        assertThat(receipt.calculateFinalAmount()).isEqualTo(8_400_000_000L);
+        assertThat(receipt.calculateTotalQuantity()).isEqualTo(2_000_000);
+    }
+
+    @Test
+    @DisplayName("멤버십 할인은 증정이 없는 항목 금액의 30%이고 8,000원을 넘지 않는다")
+    void membershipDiscount() {
+        List<ReceiptItem> items = List.of(
+                new ReceiptItem("물", 10, 500, 0),
+                new ReceiptItem("콜라", 3, 1_000, 1)
+        );
+
+        Receipt small = new Receipt(items, 1_000, true, promotionService);
+        Receipt large = new Receipt(List.of(new ReceiptItem("정식도시락", 8, 6_400, 0)), 0, true, promotionService);
+
+        assertThat(small.calculateMembershipDiscount()).isEqualTo(1_500);
+        assertThat(small.calculateFinalAmount()).isEqualTo(8_000 - 1_000 - 1_500);
+        assertThat(large.calculateMembershipDiscount()).isEqualTo(8_000);
+    }
+}
@@ -0,0 +1,163 @@
+package store.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.product.Products;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StockEventBusTest {
+    private static final int PRODUCER_COUNT = 4;
+    private static final int SALES_PER_PRODUCER = 5_000;
+
+    @Test
+    @DisplayName("프로모션 재고가 0이 되는 순간 품절 이벤트를 받는다")
+    void outOfStock() throws InterruptedException {
+        Products products = new Products(List.of(new Product("콜라", 1000, 3, "탄산2+1")));
+        CountDownLatch alerted = new CountDownLatch(1);
+        List<StockEvent> alerts = new CopyOnWriteArrayList<>();
+        StockEventBus bus = new StockEventBus(16);
+        bus.subscribe("out-of-stock", StockEventHandler.onOutOfStock(event -> {
+            alerts.add(event);
+            alerted.countDown();
+        }));
+        products.watchStock(bus);
+
+        products.findPromotionProduct("콜라").decreaseQuantity(1);
+        products.findPromotionProduct("콜라").decreaseQuantity(2);
+
+        assertThat(alerted.await(5, TimeUnit.SECONDS)).isTrue();
+        bus.close();
+        assertThat(alerts).hasSize(1);
+        assertThat(alerts.get(0)).isEqualTo(new StockEvent(1, "콜라", true, 2, 0));
+    }
+
+    @Test
+    @DisplayName("재고 부족 알림은 기준 아래로 내려가는 순간마다 한 번씩만 온다")
+    void lowStockCrossings() {
+        Product water = new Product("물", 500, 10, "null");
+        List<StockEvent> alerts = new CopyOnWriteArrayList<>();
+        StockEventBus bus = new StockEventBus(16);
+        bus.subscribe("low-stock", StockEventHandler.onLowStock(5, alerts::add));
+        new Products(List.of(water)).watchStock(bus);
+
+        water.decreaseQuantity(4);
+        water.decreaseQuantity(2);
+        water.decreaseQuantity(1);
+        water.increaseQuantity(5);
+        water.decreaseQuantity(4);
+        bus.close();
+
+        assertThat(alerts.stream().map(StockEvent::quantity).toList()).containsExactly(4, 4);
+    }
+
+    @Test
+    @DisplayName("느린 구독자가 있어도 작은 버퍼에서 이벤트를 잃거나 덮어쓰지 않는다")
+    void backpressureKeepsEveryEvent() throws InterruptedException {
+        Product cola = new Product("콜라", 1000, PRODUCER_COUNT * SALES_PER_PRODUCER, "null");
+        List<Long> sequences = new ArrayList<>();
+        long[] sold = new long[1];
+        StockEventBus bus = new StockEventBus(8);
+        bus.subscribe("slow", event -> {
+            sequences.add(event.sequence());
+            sold[0] += event.previousQuantity() - event.quantity();
+            slowDown(event);
+        });
+        new Products(List.of(cola)).watchStock(bus);
+
+        runProducers(cola);
+        bus.close();
+
+        assertThat(cola.quantityValue()).isZero();
+        assertThat(sold[0]).isEqualTo(PRODUCER_COUNT * SALES_PER_PRODUCER);
+        assertThat(sequences).containsExactlyElementsOf(
+                LongStream.range(0, PRODUCER_COUNT * SALES_PER_PRODUCER).boxed().toList());
+        assertThat(bus.failureCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("구독자가 재고를 바꿔 다시 이벤트를 내도 버퍼가 차면 기다리지 않고 버린다")
+    void subscriberRepublishDoesNotDeadlock() throws InterruptedException {
+        Product water = new Product("물", 500, 100, "null");
+        StockEventBus bus = new StockEventBus(2);
+        bus.subscribe("replenish", event -> {
+            if (event.quantity() < event.previousQuantity()) {
+                restock(water);
+            }
+        });
+        new Products(List.of(water)).watchStock(bus);
+
+        water.decreaseQuantity(10);
+
+        assertThat(awaitQuantity(water, 100)).isTrue();
+        bus.close();
+        assertThat(bus.droppedCount()).isGreaterThan(0L);
+    }
+
+    @Test
+    @DisplayName("할 일이 없는 구독자는 잠들었다가 새 이벤트가 오면 깨어난다")
+    void idleSubscriberWakesOnPublish() throws InterruptedException {
+        Product water = new Product("물", 500, 10, "null");
+        CountDownLatch received = new CountDownLatch(1);
+        StockEventBus bus = new StockEventBus(16);
+        bus.subscribe("idle", event -> received.countDown());
+        new Products(List.of(water)).watchStock(bus);
+        Thread.sleep(100);
+
+        water.decreaseQuantity(1);
+
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        bus.close();
+    }
+
+    private static boolean awaitQuantity(Product product, int quantity) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (product.quantityValue() != quantity && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return product.quantityValue() == quantity;
+    }
+
+    private static void restock(Product water) {
+        for (int i = 0; i < 10; i++) {
+            water.increaseQuantity(1);
+        }
+    }
+
+    private void runProducers(Product cola) throws InterruptedException {
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < PRODUCER_COUNT; i++) {
+            producers.add(new Thread(() -> {
+                for (int sale = 0; sale < SALES_PER_PRODUCER; sale++) {
+                    cola.decreaseQuantity(1);
+                }
+            }));
+        }
+        producers.forEach(Thread::start);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+    }
+
+    private void slowDown(StockEvent event) {
+        if (event.sequence() % 1000 == 0) {
+            sleep();
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package store.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.FileLoader;
+import store.StoreFixture;
+import store.domain.product.Products;
+import store.service.CheckoutEngine;
+import store.service.CustomerPolicy;
+import store.service.OrderService;
+import store.service.PromotionService;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoreEventsTest {
+    private Recording recording;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        Products products = new Products(FileLoader.loadProducts());
+        orderService = new OrderService(products, new PromotionService(FileLoader.loadPromotions(), StoreFixture.FIXED_CLOCK));
+        recording = new Recording();
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    @DisplayName("주문 한 건은 항목 수, 증정 수량, 합계를 담은 이벤트와 줄별 프로모션 판단, 할인 판단 이벤트를 남긴다")
+    void createOrderEvent() throws Exception {
+        orderService.createOrder(Map.of("콜라", 3), false);
+
+        List<RecordedEvent> events = stop();
+        RecordedEvent order = single(events, "store.CreateOrder");
+        RecordedEvent line = evaluation(events, PromotionEvaluationEvent.ORDER_LINE);
+        RecordedEvent discount = evaluation(events, PromotionEvaluationEvent.TOTAL_DISCOUNT);
+
+        assertThat(order.getInt("lineCount")).isEqualTo(1);
+        assertThat(order.getInt("itemCount")).isEqualTo(3);
+        assertThat(order.getInt("giftQuantity")).isEqualTo(1);
+        assertThat(order.getLong("totalAmount")).isEqualTo(3000);
+        assertThat(order.getLong("finalAmount")).isEqualTo(2000);
+        assertThat(line.getString("productName")).isEqualTo("콜라");
+        assertThat(line.getString("promotionName")).isEqualTo("탄산2+1");
+        assertThat(line.getInt("quantity")).isEqualTo(3);
+        assertThat(line.getLong("result")).isEqualTo(1);
+        assertThat(discount.getLong("result")).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("기록하지 않는 동안에는 결제 경로의 이벤트 객체를 새로 만들지 않는다")
+    void disabledEventsAreNotAllocated() throws Exception {
+        stop();
+
+        assertThat(StockReservationFailureEvent.start()).isSameAs(StockReservationFailureEvent.start());
+        assertThat(PromotionEvaluationEvent.start()).isSameAs(PromotionEvaluationEvent.start());
+        assertThat(CreateOrderEvent.start()).isSameAs(CreateOrderEvent.start());
+    }
+
+    @Test
+    @DisplayName("예약을 확정한 결제도 주문과 같은 항목으로 이벤트를 남긴다")
+    void confirmedCheckoutEvent() throws Exception {
+        CheckoutEngine checkoutEngine = new CheckoutEngine(orderService, Duration.ofMinutes(1));
+
+        checkoutEngine.checkout(Map.of("콜라", 2), CustomerPolicy.ALWAYS_ACCEPT);
+
+        RecordedEvent order = single(stop(), "store.CreateOrder");
+        assertThat(order.getInt("lineCount")).isEqualTo(1);
+        assertThat(order.getInt("itemCount")).isEqualTo(3);
+        assertThat(order.getInt("giftQuantity")).isEqualTo(1);
+        assertThat(order.getLong("totalAmount")).isEqualTo(3000);
+        assertThat(order.getLong("finalAmount")).isEqualTo(2000);
+        assertThat(order.getBoolean("membership")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재고가 모자란 주문은 실패 이벤트만 남긴다")
+    void stockReservationFailureEvent() throws Exception {
+        assertThatThrownBy(() -> orderService.createOrder(Map.of("물", 11), false))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        List<RecordedEvent> events = stop();
+        RecordedEvent failure = single(events, "store.StockReservationFailure");
+
+        assertThat(failure.getString("stage")).isEqualTo(StockReservationFailureEvent.RESERVE);
+        assertThat(failure.getString("products")).isEqualTo("물");
+        assertThat(failure.getInt("itemQuantity")).isEqualTo(11);
+        assertThat(failure.getString("reason")).isEqualTo("재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요.");
+        assertThat(events).noneMatch(event -> event.getEventType().getName().equals("store.CreateOrder"));
+    }
+
+    @Test
+    @DisplayName("상품 파일 파싱 단계는 파일과 행 수를 남긴다")
+    void catalogLoadEvent() throws Exception {
+        Path path = Paths.get("src/main/resources/products.md");
+        int productCount = FileLoader.loadProducts(path, 1).size();
+
+        RecordedEvent parse = single(stop(), "store.CatalogLoad");
+
+        assertThat(parse.getString("phase")).isEqualTo(CatalogLoadEvent.PARSE);
+        assertThat(parse.getString("file")).isEqualTo(path.toString());
+        assertThat(parse.getInt("rowCount")).isEqualTo(productCount);
+    }
+
+    private List<RecordedEvent> stop() throws Exception {
+        recording.stop();
+        Path file = Files.createTempFile("store-events", ".jfr");
+        recording.dump(file);
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        return events;
+    }
+
+    private static RecordedEvent evaluation(List<RecordedEvent> events, String evaluation) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals("store.PromotionEvaluation"))
+                .filter(event -> event.getString("evaluation").equals(evaluation))
+                .toList();
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+}
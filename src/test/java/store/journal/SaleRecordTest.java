@@ -0,0 +1,29 @@
+package store.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.receipt.ReceiptItem;
+import store.journal.SaleRecord.StockDelta;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SaleRecordTest {
+    @Test
+    @DisplayName("65,535 바이트를 넘는 상품 이름과 int 를 넘는 금액도 그대로 되읽는다")
+    void roundTripsLongNameAndAmount() {
+        String name = "물".repeat(30_000);
+        SaleRecord record = new SaleRecord(List.of(new StockDelta(new StockKey(name, true), 3)),
+                List.of(new ReceiptItem(name, 3, 500, 1)), true, 5_000_000_000L);
+
+        SaleRecord decoded = SaleRecord.decode(ByteBuffer.wrap(record.encode()));
+
+        assertThat(decoded.deltas()).isEqualTo(record.deltas());
+        assertThat(decoded.lines().get(0).nameValue()).isEqualTo(name);
+        assertThat(decoded.lines().get(0).giftQuantityValue()).isEqualTo(1);
+        assertThat(decoded.membership()).isTrue();
+        assertThat(decoded.finalAmount()).isEqualTo(5_000_000_000L);
+    }
+}
@@ -0,0 +1,148 @@
+package store.journal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.FileLoader;
+import store.domain.product.Products;
+import store.domain.reservation.ReservationRegistry;
+import store.service.OrderService;
+import store.service.PromotionService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StockJournalTest {
+    private static final String PRODUCTS_HEADER = "name,price,quantity,promotion";
+    private static final int NO_COMPACTION = Integer.MAX_VALUE;
+
+    private Path directory;
+    private Path source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("stock-journal");
+        source = directory.resolve("products.md");
+        Files.write(source, List.of(PRODUCTS_HEADER, "물,500,10,null", "콜라,1000,10,null"));
+    }
+
+    @Test
+    @DisplayName("다시 열면 저널에 남은 판매를 파일 재고에 재생한다")
+    void replayAfterRestart() {
+        sell(NO_COMPACTION, Map.of("물", 3), Map.of("콜라", 2), Map.of("물", 1));
+
+        Products reopened = reopen(NO_COMPACTION);
+
+        assertThat(reopened.findNormalProduct("물").quantityValue()).isEqualTo(6);
+        assertThat(reopened.findNormalProduct("콜라").quantityValue()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("쓰다 만 꼬리는 잘라내고 그 앞까지의 판매만 재생한다")
+    void truncatesTornTail() throws IOException {
+        sell(NO_COMPACTION, Map.of("물", 3));
+        Path journalFile = journalDirectory().resolve("stock.journal");
+        long validSize = Files.size(journalFile);
+        Files.write(journalFile, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        Products reopened = reopen(NO_COMPACTION);
+
+        assertThat(reopened.findNormalProduct("물").quantityValue()).isEqualTo(7);
+        assertThat(Files.size(journalFile)).isEqualTo(validSize);
+    }
+
+    @Test
+    @DisplayName("압축한 체크포인트와 그 뒤의 저널을 함께 재생한다")
+    void compactionRoundTrip() throws IOException {
+        sell(2, Map.of("물", 1), Map.of("물", 2), Map.of("콜라", 4));
+
+        Products reopened = reopen(2);
+
+        assertThat(checkpoints()).hasSize(1);
+        assertThat(reopened.findNormalProduct("물").quantityValue()).isEqualTo(7);
+        assertThat(reopened.findNormalProduct("콜라").quantityValue()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("원본 파일이 바뀌어 낡은 체크포인트는 버리고 새 파일의 재고에 이후 판매만 재생한다")
+    void staleCheckpointFallsBackToSource() throws IOException {
+        sell(1, Map.of("물", 3));
+        Files.write(source, List.of(PRODUCTS_HEADER, "물,500,50,null", "콜라,1000,10,null"));
+
+        Products reopened = reopen(1);
+
+        assertThat(checkpoints()).hasSize(1);
+        assertThat(reopened.findNormalProduct("물").quantityValue()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("닫은 뒤의 판매는 기다리지 않고 거절하고 차감한 재고를 되돌린다")
+    void rejectsRecordAfterClose() {
+        Products products = new Products(FileLoader.loadProducts(source));
+        StockJournal journal = StockJournal.open(journalDirectory(), source, products, NO_COMPACTION);
+        OrderService orderService = new OrderService(products, new PromotionService(Map.of()),
+                new ReservationRegistry(), journal);
+        journal.close();
+
+        assertThatThrownBy(() -> orderService.createOrder(Map.of("물", 3), false))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(products.findNormalProduct("물").quantityValue()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("압축에 실패하면 오류 스트림에 알리고 판매는 저널에 남긴다")
+    void reportsCompactionFailure() throws IOException {
+        Products products = new Products(FileLoader.loadProducts(source));
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        try (StockJournal journal = StockJournal.open(journalDirectory(), source, products, 1,
+                new PrintStream(errors, true, StandardCharsets.UTF_8))) {
+            // 체크포인트 자리에 비어 있지 않은 디렉터리가 있으면 교체하지 못한다
+            Files.createDirectories(journalDirectory().resolve("stock-1.checkpoint").resolve("blocked"));
+            new OrderService(products, new PromotionService(Map.of()), new ReservationRegistry(), journal)
+                    .createOrder(Map.of("물", 3), false);
+        }
+
+        assertThat(errors.toString(StandardCharsets.UTF_8)).startsWith("[저널] 체크포인트를 남기지 못해");
+        assertThat(Files.size(journalDirectory().resolve("stock.journal"))).isPositive();
+    }
+
+    @SafeVarargs
+    private void sell(int compactionInterval, Map<String, Integer>... orders) {
+        Products products = new Products(FileLoader.loadProducts(source));
+        try (StockJournal journal = StockJournal.open(journalDirectory(), source, products, compactionInterval);
+             ReservationRegistry reservations = new ReservationRegistry()) {
+            OrderService orderService = new OrderService(products, new PromotionService(Map.of()), reservations,
+                    journal);
+            for (Map<String, Integer> order : orders) {
+                orderService.createOrder(order, false);
+            }
+        }
+    }
+
+    private Products reopen(int compactionInterval) {
+        Products products = new Products(FileLoader.loadProducts(source));
+        StockJournal.open(journalDirectory(), source, products, compactionInterval).close();
+        return products;
+    }
+
+    private Path journalDirectory() {
+        return directory.resolve("journal");
+    }
+
+    private List<Path> checkpoints() throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory())) {
+            return files.filter(file -> StockJournal.checkpointSequence(file).isPresent()).toList();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package store.load;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.product.Product;
+import store.domain.product.Products;
+import store.domain.reservation.ReservationRegistry;
+import store.service.OrderService;
+import store.service.PromotionService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadGeneratorTest {
+    private static final int SAMPLE_COUNT = 100_000;
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("store-load-test");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        SyntheticStore.deleteCatalog(directory);
+    }
+
+    @Test
+    @DisplayName("재고가 바닥나도록 여러 계산대가 결제해도 판매량과 남은 재고가 맞는다")
+    void concurrentLoadKeepsStockConsistent() {
+        LoadProfile profile = new LoadProfile(50, 20, 4000, 4, 1.1, OrderSizeDistribution.parse("1:50,3:30,6:20"),
+                4, 0.7, 0.5, 0.5, 7L);
+
+        LoadReport report;
+        try (LoadGenerator generator = LoadGenerator.open(directory, profile)) {
+            report = generator.run();
+        }
+        Map<String, Long> counts = report.metrics().counts();
+
+        assertThat(report.stockErrors()).isEmpty();
+        assertThat(counts.get("load.completed") + counts.get("load.declined") + counts.get("load.rejected"))
+                .isEqualTo(4000L);
+        assertThat(counts.get("load.rejected")).isGreaterThan(0L);
+        assertThat(report.completedCount()).isEqualTo(counts.get("load.completed"));
+        assertThat(report.metrics().latencies().get("load.checkout").count()).isEqualTo(4000);
+    }
+
+    @Test
+    @DisplayName("영수증으로 기록하지 않은 판매는 재고 점검에서 드러난다")
+    void auditFindsUnrecordedSale() {
+        Products products = new Products(List.of(new Product("물", 500, 10, "null")));
+        StockAudit audit = StockAudit.begin(products);
+
+        new OrderService(products, new PromotionService(Map.of())).createOrder(Map.of("물", 3), false);
+
+        assertThat(audit.verify(new ReservationRegistry()))
+                .containsExactly("물 재고가 맞지 않습니다: 시작 10, 판매 0, 남음 7");
+    }
+
+    @Test
+    @DisplayName("인기 순위가 높은 상품일수록 자주 뽑힌다")
+    void zipfFavorsTopRanks() {
+        ZipfDistribution popularity = new ZipfDistribution(1000, 1.1);
+        SplittableRandom random = new SplittableRandom(42L);
+        int[] counts = new int[1000];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            counts[popularity.sample(random)]++;
+        }
+
+        assertThat(counts[0]).isGreaterThan(counts[1]);
+        assertThat(counts[0]).isGreaterThan(counts[9] * 8);
+        assertThat(counts[999]).isLessThan(counts[0] / 1000 + 20);
+    }
+
+    @Test
+    @DisplayName("주문 크기 분포는 적어 둔 종류 수만 돌려주고 형식이 틀리면 예외가 발생한다")
+    void orderSizeDistribution() {
+        OrderSizeDistribution orderSizes = OrderSizeDistribution.parse("1:3,4:1");
+        SplittableRandom random = new SplittableRandom(42L);
+        int fours = 0;
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            int lineCount = orderSizes.sample(random);
+            assertThat(lineCount).isIn(1, 4);
+            fours += lineCount / 4;
+        }
+
+        assertThat(fours).isBetween(SAMPLE_COUNT / 4 - 1000, SAMPLE_COUNT / 4 + 1000);
+        assertThatThrownBy(() -> OrderSizeDistribution.parse("1:3,4"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderSizeDistribution.parse("0:1"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,124 @@
+package store.loader;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.FileLoader;
+import store.domain.product.Product;
+import store.domain.promotion.Promotion;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogSnapshotTest {
+    private static final String SNAPSHOT_DIR_PROPERTY = "store.snapshot.dir";
+    private static final String PRODUCTS_HEADER = "name,price,quantity,promotion";
+    private static final int HEADER_SIZE = 48;
+
+    private Path directory;
+    private Path source;
+    private Path snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("catalog-snapshot");
+        source = directory.resolve("products.md");
+        snapshot = directory.resolve("products.md.snapshot");
+        Files.write(source, List.of(PRODUCTS_HEADER, "콜라,1000,10,탄산2+1", "물,500,10,null"));
+        System.setProperty(SNAPSHOT_DIR_PROPERTY, directory.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        System.clearProperty(SNAPSHOT_DIR_PROPERTY);
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    @DisplayName("저장한 상품과 프로모션 스냅샷을 같은 값으로 다시 읽는다")
+    void roundTrip() throws IOException {
+        SourceStamp stamp = SourceStamp.of(source);
+        Path promotionSnapshot = directory.resolve("promotions.md.snapshot");
+        Map<String, Promotion> promotions = new LinkedHashMap<>();
+        promotions.put("탄산2+1", new Promotion("탄산2+1", 2, 1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)));
+
+        CatalogSnapshot.writeProducts(snapshot, stamp, FileLoader.loadProducts(source));
+        CatalogSnapshot.writePromotions(promotionSnapshot, stamp, promotions);
+
+        assertThat(describe(CatalogSnapshot.readProducts(snapshot, stamp).orElseThrow()))
+                .containsExactly("콜라,1000,10,탄산2+1", "물,500,10,null");
+        Promotion promotion = CatalogSnapshot.readPromotions(promotionSnapshot, stamp).orElseThrow().get(0);
+        assertThat(promotion.nameValue()).isEqualTo("탄산2+1");
+        assertThat(promotion.buyQuantityValue()).isEqualTo(2);
+        assertThat(promotion.giftQuantityValue()).isEqualTo(1);
+        assertThat(promotion.endDateValue()).isEqualTo(LocalDate.of(2024, 12, 31));
+    }
+
+    @Test
+    @DisplayName("원본이 바뀌어 스냅샷이 낡으면 원본을 다시 파싱하고 스냅샷을 새로 쓴다")
+    void staleStampForcesReparse() throws IOException {
+        FileLoader.loadProducts(source);
+        Files.write(source, List.of(PRODUCTS_HEADER, "콜라,1200,7,null"));
+        Files.setLastModifiedTime(source, FileTime.fromMillis(System.currentTimeMillis() + 1000));
+
+        assertThat(describe(FileLoader.loadProducts(source))).containsExactly("콜라,1200,7,null");
+        assertThat(describe(CatalogSnapshot.readProducts(snapshot, SourceStamp.of(source)).orElseThrow()))
+                .containsExactly("콜라,1200,7,null");
+    }
+
+    @Test
+    @DisplayName("본문 CRC 가 맞지 않는 스냅샷은 버리고 원본에서 읽는다")
+    void crcMismatchFallsBackToSource() throws IOException {
+        writeDecoySnapshot();
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(snapshot, bytes);
+
+        assertThat(CatalogSnapshot.readProducts(snapshot, SourceStamp.of(source))).isEmpty();
+        assertThat(describe(FileLoader.loadProducts(source))).containsExactly("콜라,1000,10,탄산2+1", "물,500,10,null");
+    }
+
+    @Test
+    @DisplayName("잘린 스냅샷은 버리고 원본에서 읽는다")
+    void truncatedSnapshotFallsBackToSource() throws IOException {
+        writeDecoySnapshot();
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.WRITE)) {
+            channel.truncate(HEADER_SIZE + 4);
+        }
+
+        assertThat(CatalogSnapshot.readProducts(snapshot, SourceStamp.of(source))).isEmpty();
+        assertThat(describe(FileLoader.loadProducts(source))).containsExactly("콜라,1000,10,탄산2+1", "물,500,10,null");
+    }
+
+    // 원본과 다른 내용을 원본 도장으로 저장해 두면 스냅샷에서 읽었는지 원본에서 읽었는지 구분된다
+    private void writeDecoySnapshot() throws IOException {
+        List<Product> decoy = List.of(new Product("가짜", 1, 1, "null"));
+        CatalogSnapshot.writeProducts(snapshot, SourceStamp.of(source), decoy);
+        assertThat(SnapshotStore.readProducts(source).map(CatalogSnapshotTest::describe))
+                .isEqualTo(Optional.of(List.of("가짜,1,1,null")));
+    }
+
+    private static List<String> describe(List<Product> products) {
+        return products.stream()
+                .map(product -> String.join(",", product.nameValue(), String.valueOf(product.priceValue()),
+                        String.valueOf(product.quantityValue()), product.promotionNameValue()))
+                .toList();
+    }
+}
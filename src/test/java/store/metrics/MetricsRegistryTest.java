@@ -0,0 +1,125 @@
+package store.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsRegistryTest {
+    private static final int SAMPLE_COUNT = 100_000;
+    private static final double RELATIVE_ERROR = 1.0 / 16;
+
+    @Test
+    @DisplayName("칸의 상한은 기록한 값 이상이고 1/16 넘게 크지 않다")
+    void bucketBounds() {
+        Random random = new Random(42L);
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            long value = random.nextLong(Long.MAX_VALUE >>> random.nextInt(63));
+            long highest = LatencyHistogram.highestValueOf(LatencyHistogram.bucketOf(value));
+
+            assertThat(highest).isGreaterThanOrEqualTo(value);
+            assertThat(highest - value).isLessThanOrEqualTo((long) (value * RELATIVE_ERROR));
+        }
+    }
+
+    @Test
+    @DisplayName("백분위 값은 정렬해서 구한 값과 1/16 이내로 같다")
+    void percentilesMatchSortedSamples() {
+        Random random = new Random(7L);
+        long[] samples = new long[SAMPLE_COUNT];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            samples[i] = (long) Math.exp(8 + random.nextGaussian() * 1.5);
+            histogram.record(samples[i]);
+        }
+        Arrays.sort(samples);
+
+        LatencySnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.count()).isEqualTo(SAMPLE_COUNT);
+        assertThat(snapshot.maxNanos()).isEqualTo(samples[SAMPLE_COUNT - 1]);
+        assertClose(snapshot.p50Nanos(), samples[SAMPLE_COUNT / 2 - 1]);
+        assertClose(snapshot.p99Nanos(), samples[SAMPLE_COUNT * 99 / 100 - 1]);
+        assertClose(snapshot.p999Nanos(), samples[SAMPLE_COUNT * 999 / 1000 - 1]);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 올린 횟수와 기록이 빠짐없이 모인다")
+    void concurrentRecording() throws Exception {
+        MetricsRegistry registry = MetricsRegistry.enabled();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int lane = 0; lane < 4; lane++) {
+            executor.submit(() -> record(registry));
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        MetricsSnapshot snapshot = registry.snapshot();
+
+        assertThat(snapshot.counts()).containsEntry("order.rejected", 40_000L);
+        assertThat(snapshot.latencies().get("order.create").count()).isEqualTo(40_000);
+    }
+
+    @Test
+    @DisplayName("꺼진 저장소는 시계를 읽지 않고 아무것도 남기지 않는다")
+    void disabledRegistry() {
+        MetricsRegistry registry = MetricsRegistry.disabled();
+        LatencyTimer timer = registry.timer("order.create");
+
+        long startedAt = timer.start();
+        timer.stop(startedAt);
+        registry.counter("order.rejected").increment();
+
+        assertThat(startedAt).isZero();
+        assertThat(registry.snapshot().describe()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지표는 이름순으로 한 줄씩 내보낸다")
+    void describe() {
+        MetricsRegistry registry = MetricsRegistry.enabled();
+        registry.counter("stock.conflicts").increment();
+        registry.timer("order.validate");
+        registry.counter("order.rejected").increment();
+
+        assertThat(registry.snapshot().describe()).containsExactly(
+                "[지표] order.validate 0건 평균 0.0µs p50 0.0µs p99 0.0µs p99.9 0.0µs 최대 0.0µs",
+                "[지표] order.rejected 1건",
+                "[지표] stock.conflicts 1건");
+    }
+
+    @Test
+    @DisplayName("기본 로케일이 쉼표를 소수점으로 써도 지표는 점으로 내보낸다")
+    void describeIgnoresDefaultLocale() {
+        MetricsRegistry registry = MetricsRegistry.enabled();
+        registry.timer("order.validate");
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            assertThat(registry.snapshot().describe()).containsExactly(
+                    "[지표] order.validate 0건 평균 0.0µs p50 0.0µs p99 0.0µs p99.9 0.0µs 최대 0.0µs");
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    private static void record(MetricsRegistry registry) {
+        for (int i = 0; i < 10_000; i++) {
+            LatencyTimer timer = registry.timer("order.create");
+            timer.stop(timer.start());
+            registry.counter("order.rejected").increment();
+        }
+    }
+
+    private static void assertClose(long reported, long exact) {
+        assertThat(reported).isGreaterThanOrEqualTo(exact);
+        assertThat(reported - exact).isLessThanOrEqualTo((long) (exact * RELATIVE_ERROR) + 1);
+    }
+}
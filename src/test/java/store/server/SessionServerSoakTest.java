@@ -0,0 +1,201 @@
+package store.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.StoreFixture;
+import store.StoreSession;
+import store.domain.product.Product;
+import store.domain.product.Products;
+import store.service.CheckoutEngine;
+import store.service.OrderService;
+import store.service.PromotionService;
+import store.view.InputView;
+import store.view.OutputView;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SessionServerSoakTest {
+    private static final int CLIENT_COUNT = 2000;
+    private static final int ORDERS_PER_CLIENT = 3;
+    private static final List<String> NAMES = List.of("콜라", "사이다", "물", "감자칩");
+    private static final String ITEM_PROMPT = "구매하실 상품명과 수량을 입력해 주세요.";
+    private static final String CONTINUE_PROMPT = "구매하고 싶은 다른 상품이 있나요?";
+    private static final String TOTAL_PREFIX = "총구매액";
+
+    @Test
+    @DisplayName("수천 개의 소켓 세션이 동시에 구매해도 판매량과 남은 재고의 합이 처음 재고와 같다")
+    void concurrentSocketSessionsKeepStockConsistent() throws Exception {
+        List<Product> productList = StoreFixture.createProducts(100);
+        int initialStock = StoreFixture.totalStock(productList);
+        Products products = new Products(productList);
+
+        int soldQuantity;
+        try (SessionServer server = SessionServer.open(0, sessionFactory(products))) {
+            soldQuantity = runClients(server);
+        }
+
+        assertThat(productList).allMatch(product -> product.quantityValue() >= 0);
+        assertThat(StoreFixture.totalStock(productList) + soldQuantity).isEqualTo(initialStock);
+    }
+
+    @Test
+    @DisplayName("프로세스 안의 세션은 자기 스트림으로만 입출력한다")
+    void inProcessSessionUsesItsOwnStreams() throws Exception {
+        Products products = new Products(StoreFixture.createProducts(100));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (SessionServer server = SessionServer.open(0, sessionFactory(products))) {
+            server.openInProcess(script("[물-2]", "N", "N"), output).get();
+        }
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).contains("- 물 500원 3000개", "내실돈\t\t\t\t\t 1,000");
+        assertThat(products.findNormalProduct("물").quantityValue()).isEqualTo(2998);
+    }
+
+    private BiFunction<InputView, OutputView, StoreSession> sessionFactory(Products products) {
+        PromotionService promotionService = new PromotionService(StoreFixture.createPromotions(), StoreFixture.FIXED_CLOCK);
+        OrderService orderService = new OrderService(products, promotionService);
+        CheckoutEngine checkoutEngine = new CheckoutEngine(orderService, Duration.ofMinutes(1));
+        return (inputView, outputView) -> new StoreSession(products, checkoutEngine, inputView, outputView);
+    }
+
+    // 모든 고객이 첫 프롬프트를 받은 뒤에 함께 구매를 시작해 세션이 동시에 열려 있도록 한다
+    private int runClients(SessionServer server) throws Exception {
+        CountDownLatch connected = new CountDownLatch(CLIENT_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENT_COUNT; i++) {
+                results.add(clients.submit(() -> shop(server.portValue(), connected, start)));
+            }
+            connected.await();
+            assertThat(server.activeSessionCount()).isEqualTo(CLIENT_COUNT);
+            start.countDown();
+            return sum(results);
+        }
+    }
+
+    private int sum(List<Future<Integer>> results) throws Exception {
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get();
+        }
+        return total;
+    }
+
+    private int shop(int port, CountDownLatch connected, CountDownLatch start) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter writer = new PrintWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+            waitFor(reader, ITEM_PROMPT);
+            connected.countDown();
+            start.await();
+            return new ScriptedClient(reader, writer).shop();
+        }
+    }
+
+    private void waitFor(BufferedReader reader, String prompt) throws Exception {
+        String line = reader.readLine();
+        while (!line.contains(prompt)) {
+            line = reader.readLine();
+        }
+    }
+
+    private ByteArrayInputStream script(String... lines) {
+        return new ByteArrayInputStream((String.join("\n", lines) + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 화면의 프롬프트에 무작위로 답하고, 영수증의 총구매 수량을 모은다
+    private static class ScriptedClient {
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+        private int ordersLeft = ORDERS_PER_CLIENT;
+        private int soldQuantity;
+
+        ScriptedClient(BufferedReader reader, PrintWriter writer) {
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        int shop() throws Exception {
+            writer.println(randomOrder());
+            ordersLeft--;
+            String line = reader.readLine();
+            while (line != null && respond(line)) {
+                line = reader.readLine();
+            }
+            return soldQuantity;
+        }
+
+        private boolean respond(String line) {
+            if (line.contains(ITEM_PROMPT)) {
+                return order();
+            }
+            if (line.contains(CONTINUE_PROMPT)) {
+                writer.println(yesOrNo(ordersLeft > 0));
+                return true;
+            }
+            if (line.endsWith("(Y/N)")) {
+                writer.println(randomAnswer());
+            }
+            if (line.startsWith(TOTAL_PREFIX)) {
+                soldQuantity += Integer.parseInt(line.split("\t+")[1]);
+            }
+            return true;
+        }
+
+        // 남은 주문이 없으면 접속을 끊어 세션을 끝낸다
+        private boolean order() {
+            if (ordersLeft == 0) {
+                return false;
+            }
+            ordersLeft--;
+            writer.println(randomOrder());
+            return true;
+        }
+
+        private String randomOrder() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<String> names = new ArrayList<>(NAMES);
+            Collections.shuffle(names, random);
+            List<String> items = new ArrayList<>();
+            for (String name : names.subList(0, random.nextInt(1, names.size() + 1))) {
+                items.add("[" + name + "-" + random.nextInt(1, 10) + "]");
+            }
+            return String.join(",", items);
+        }
+
+        private String randomAnswer() {
+            return yesOrNo(ThreadLocalRandom.current().nextInt(4) > 0);
+        }
+
+        private String yesOrNo(boolean yes) {
+            if (yes) {
+                return "Y";
+            }
+            return "N";
+        }
+    }
+}
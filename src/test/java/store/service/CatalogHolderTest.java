@@ -0,0 +1,191 @@
+package store.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.FileLoader;
+import store.domain.product.Product;
+import store.domain.product.Products;
+import store.domain.receipt.Receipt;
+import store.domain.reservation.Reservation;
+import store.domain.reservation.ReservationRegistry;
+import store.journal.StockJournal;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogHolderTest {
+    private static final Duration HOLD_TIME = Duration.ofMinutes(1);
+    private static final int LANE_COUNT = 4;
+    private static final int ORDERS_PER_LANE = 400;
+    private static final int SWAP_COUNT = 50;
+    private static final String PRODUCTS_HEADER = "name,price,quantity,promotion";
+
+    @Test
+    @DisplayName("카탈로그를 바꾸면 팔린 재고는 이어받고 가격은 새 카탈로그를 따른다")
+    void swapCarriesSoldStock() {
+        CatalogHolder catalogs = new CatalogHolder(catalog(500, 10));
+        OrderService orderService = newOrderService(catalogs);
+        orderService.createOrder(Map.of("물", 3), false);
+
+        catalogs.swap(catalog(600, 50));
+
+        assertThat(catalogs.current().products().findNormalProduct("물").quantityValue()).isEqualTo(7);
+        assertThat(orderService.createOrder(Map.of("물", 1), false).calculateTotalAmount()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("교체 전에 잡은 예약을 취소하면 재고가 새 카탈로그로 돌아온다")
+    void releasedReservationReturnsToCurrentCatalog() {
+        CatalogHolder catalogs = new CatalogHolder(catalog(500, 10));
+        OrderService orderService = newOrderService(catalogs);
+        Reservation reservation = orderService.reserve(Map.of("물", 4), HOLD_TIME);
+
+        catalogs.swap(catalog(600, 10));
+        assertThat(catalogs.current().products().findNormalProduct("물").quantityValue()).isEqualTo(6);
+        orderService.cancel(reservation);
+
+        assertThat(catalogs.current().products().findNormalProduct("물").quantityValue()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("교체로 물러난 카탈로그의 상품은 감시자에게 재고 변경을 알리지 않는다")
+    void retiredCatalogStopsNotifyingWatchers() {
+        CatalogHolder catalogs = new CatalogHolder(catalog(500, 10));
+        OrderService orderService = newOrderService(catalogs);
+        List<String> changes = new CopyOnWriteArrayList<>();
+        catalogs.watchStock((product, previousQuantity, quantity) -> changes.add(previousQuantity + "->" + quantity));
+        Reservation reservation = orderService.reserve(Map.of("물", 4), HOLD_TIME);
+
+        catalogs.swap(catalog(600, 10));
+        orderService.cancel(reservation);
+
+        assertThat(changes).containsExactly("10->6", "0->6", "6->10");
+    }
+
+    @Test
+    @DisplayName("교체 전에 잡은 예약은 확정할 때도 재고를 잡은 카탈로그로 계산한다")
+    void confirmUsesReservedCatalog() {
+        CatalogHolder catalogs = new CatalogHolder(catalog(500, 10));
+        OrderService orderService = newOrderService(catalogs);
+        Reservation reservation = orderService.reserve(Map.of("물", 4), HOLD_TIME);
+
+        catalogs.swap(new Catalog(new Products(List.of(new Product("물", 600, 10, "null"))),
+                new PromotionService(Map.of()) {
+                    @Override
+                    public boolean isPromotionProduct(String productName) {
+                        return true;
+                    }
+                }));
+        Receipt receipt = orderService.confirm(reservation, true);
+
+        assertThat(receipt.calculateTotalAmount()).isEqualTo(2000);
+        assertThat(receipt.calculateMembershipDiscount()).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("새로 생긴 상품은 파일의 재고로 시작하고 사라진 상품은 주문할 수 없다")
+    void addedAndRemovedProducts() {
+        CatalogHolder catalogs = new CatalogHolder(catalog(500, 10));
+        OrderService orderService = newOrderService(catalogs);
+
+        catalogs.swap(new Catalog(new Products(List.of(new Product("사이다", 1000, 20, "null"))),
+                new PromotionService(Map.of())));
+
+        assertThat(catalogs.current().products().findNormalProduct("사이다").quantityValue()).isEqualTo(20);
+        assertThatThrownBy(() -> orderService.createOrder(Map.of("물", 1), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("불러오기에 실패하면 이전 카탈로그를 그대로 쓴다")
+    void failedReloadKeepsCatalog() {
+        Catalog catalog = catalog(500, 10);
+        CatalogHolder catalogs = new CatalogHolder(catalog);
+        CatalogReloader reloader = new CatalogReloader(catalogs, () -> {
+            throw new IllegalStateException("상품 정보를 불러올 수 없습니다.");
+        });
+
+        assertThatThrownBy(reloader::reload).isInstanceOf(IllegalStateException.class);
+        assertThat(catalogs.current()).isSameAs(catalog);
+    }
+
+    @Test
+    @DisplayName("주문과 예약 취소가 이어지는 동안 카탈로그를 여러 번 바꿔도 재고가 맞는다")
+    void swapsDuringOrdersKeepStockConsistent() throws Exception {
+        int initialStock = 4000;
+        CatalogHolder catalogs = new CatalogHolder(catalog(500, initialStock));
+        OrderService orderService = newOrderService(catalogs);
+        ExecutorService executor = Executors.newFixedThreadPool(LANE_COUNT);
+        List<Future<Integer>> lanes = new ArrayList<>();
+        for (int i = 0; i < LANE_COUNT; i++) {
+            lanes.add(executor.submit(() -> runLane(orderService)));
+        }
+        for (int i = 0; i < SWAP_COUNT; i++) {
+            catalogs.swap(catalog(500 + i, initialStock));
+            Thread.yield();
+        }
+        int sold = 0;
+        for (Future<Integer> lane : lanes) {
+            sold += lane.get();
+        }
+        executor.shutdown();
+
+        assertThat(catalogs.current().products().totalQuantity() + sold).isEqualTo(initialStock);
+    }
+
+    @Test
+    @DisplayName("다시 불러온 카탈로그의 새 상품 판매도 압축 뒤 다시 열 때 이어진다")
+    void journalFollowsReloadedCatalog() throws Exception {
+        Path directory = Files.createTempDirectory("catalog-journal");
+        Path source = directory.resolve("products.md");
+        Files.write(source, List.of(PRODUCTS_HEADER, "물,500,10,null"));
+        Products products = new Products(FileLoader.loadProducts(source));
+        CatalogHolder catalogs = new CatalogHolder(new Catalog(products, new PromotionService(Map.of())));
+        try (StockJournal journal = StockJournal.open(directory.resolve("journal"), source, products, 2)) {
+            OrderService orderService = new OrderService(catalogs, new ReservationRegistry(), journal);
+            orderService.createOrder(Map.of("물", 3), false);
+            Files.write(source, List.of(PRODUCTS_HEADER, "물,600,10,null", "사이다,1000,20,null"));
+            catalogs.swap(new Catalog(new Products(FileLoader.loadProducts(source)), new PromotionService(Map.of())));
+            orderService.createOrder(Map.of("사이다", 5), false);
+            orderService.createOrder(Map.of("물", 1), false);
+        }
+
+        Products reopened = new Products(FileLoader.loadProducts(source));
+        StockJournal.open(directory.resolve("journal"), source, reopened, 2).close();
+
+        assertThat(reopened.findNormalProduct("물").quantityValue()).isEqualTo(6);
+        assertThat(reopened.findNormalProduct("사이다").quantityValue()).isEqualTo(15);
+    }
+
+    private int runLane(OrderService orderService) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int sold = 0;
+        for (int i = 0; i < ORDERS_PER_LANE; i++) {
+            Map<String, Integer> order = Map.of("물", random.nextInt(1, 4));
+            sold += orderService.createOrder(order, false).calculateTotalQuantity();
+            orderService.cancel(orderService.reserve(order, HOLD_TIME));
+        }
+        return sold;
+    }
+
+    private static OrderService newOrderService(CatalogHolder catalogs) {
+        return new OrderService(catalogs, new ReservationRegistry(), SalesRecorder.NONE);
+    }
+
+    private static Catalog catalog(int price, int quantity) {
+        return new Catalog(new Products(List.of(new Product("물", price, quantity, "null"))),
+                new PromotionService(Map.of()));
+    }
+}
@@ -0,0 +1,69 @@
+package store.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.FileLoader;
+import store.StoreFixture;
+import store.domain.order.CheckoutResult;
+import store.domain.order.CheckoutStatus;
+import store.domain.product.Products;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CheckoutEngineTest {
+    private Products products;
+    private CheckoutEngine checkoutEngine;
+
+    @BeforeEach
+    void setUp() {
+        products = new Products(FileLoader.loadProducts());
+        PromotionService promotionService = new PromotionService(FileLoader.loadPromotions(), StoreFixture.FIXED_CLOCK);
+        OrderService orderService = new OrderService(products, promotionService);
+        checkoutEngine = new CheckoutEngine(orderService, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("모두 수락하는 정책은 증정 상품을 추가하고 멤버십 할인을 받는다")
+    void alwaysAccept() {
+        CheckoutResult result = checkoutEngine.checkout(Map.of("콜라", 2), CustomerPolicy.ALWAYS_ACCEPT);
+
+        assertThat(result.isCompleted()).isTrue();
+        assertThat(result.receipt().calculateTotalQuantity()).isEqualTo(3);
+        assertThat(result.receipt().createGiftLines()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("정가 구매를 거절하면 예약한 재고를 돌려준다")
+    void alwaysDeclineReleasesStock() {
+        CheckoutResult result = checkoutEngine.checkout(Map.of("콜라", 12), CustomerPolicy.ALWAYS_DECLINE);
+
+        assertThat(result.status()).isEqualTo(CheckoutStatus.DECLINED);
+        assertThat(products.findPromotionProduct("콜라").quantityValue()).isEqualTo(10);
+        assertThat(products.findNormalProduct("콜라").quantityValue()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("시나리오 정책은 질문 순서대로 답한다")
+    void scriptedAnswers() {
+        ScriptedCustomerPolicy policy = new ScriptedCustomerPolicy(true, false);
+
+        CheckoutResult result = checkoutEngine.checkout(Map.of("콜라", 2), policy);
+
+        assertThat(result.receipt().calculateTotalQuantity()).isEqualTo(3);
+        assertThat(result.receipt().calculateMembershipDiscount()).isZero();
+        assertThat(policy.remainingAnswers()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품은 오류 메시지와 함께 거절한다")
+    void rejectUnknownProduct() {
+        CheckoutResult result = checkoutEngine.checkout(Map.of("없는상품", 1), CustomerPolicy.ALWAYS_ACCEPT);
+
+        assertThat(result.isRejected()).isTrue();
+        assertThat(result.errorMessage()).isEqualTo("존재하지 않는 상품입니다. 다시 입력해 주세요.");
+    }
+}
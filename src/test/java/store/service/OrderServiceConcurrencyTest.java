@@ -0,0 +1,79 @@
+package store.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.StoreFixture;
+import store.domain.product.Product;
+import store.domain.product.Products;
+import store.domain.receipt.Receipt;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderServiceConcurrencyTest {
+    private static final int LANE_COUNT = 16;
+    private static final int ORDERS_PER_LANE = 500;
+    private static final List<String> NAMES = List.of("콜라", "사이다", "물");
+
+    @Test
+    @DisplayName("여러 계산대가 동시에 주문해도 재고가 음수가 되거나 초과 판매되지 않는다")
+    void concurrentOrdersNeverOversell() throws Exception {
+        List<Product> productList = StoreFixture.createProducts(10);
+        int initialStock = StoreFixture.totalStock(productList);
+        Products products = new Products(productList);
+        PromotionService promotionService = new PromotionService();
+
+        int soldQuantity = runLanes(products, promotionService);
+
+        assertThat(productList).allMatch(product -> product.quantityValue() >= 0);
+        assertThat(StoreFixture.totalStock(productList) + soldQuantity).isEqualTo(initialStock);
+    }
+
+    private int runLanes(Products products, PromotionService promotionService) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(LANE_COUNT);
+        List<Future<Integer>> lanes = new ArrayList<>();
+        for (int i = 0; i < LANE_COUNT; i++) {
+            lanes.add(executor.submit(lane(new OrderService(products, promotionService))));
+        }
+        int sold = 0;
+        for (Future<Integer> lane : lanes) {
+            sold += lane.get();
+        }
+        executor.shutdown();
+        return sold;
+    }
+
+    private Callable<Integer> lane(OrderService orderService) {
+        return () -> {
+            int sold = 0;
+            for (int i = 0; i < ORDERS_PER_LANE; i++) {
+                sold += placeRandomOrder(orderService);
+            }
+            return sold;
+        };
+    }
+
+    private int placeRandomOrder(OrderService orderService) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<String, Integer> order = new HashMap<>();
+        int itemCount = random.nextInt(1, 3);
+        for (int i = 0; i < itemCount; i++) {
+            order.merge(NAMES.get(random.nextInt(NAMES.size())), random.nextInt(1, 8), Integer::sum);
+        }
+        try {
+            Receipt receipt = orderService.createOrder(order, random.nextBoolean());
+            return receipt.calculateTotalQuantity();
+        } catch (IllegalArgumentException e) {
+            return 0;
+        }
+    }
+}
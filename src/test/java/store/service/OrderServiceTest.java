@@ -5,13 +5,22 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import store.FileLoader;
+import store.domain.order.BatchReceipt;
+import store.domain.order.OrderOutcome;
+import store.domain.order.OrderRequest;
 import store.domain.product.Product;
 import store.domain.product.Products;
 import store.domain.receipt.Receipt;
+import store.domain.reservation.Reservation;
+import store.domain.reservation.ReservationRegistry;
+import store.domain.reservation.ReservationStatus;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -78,6 +87,172 @@ class OrderServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("주문 예약")
+    class ReserveOrder {
+        @Test
+        @DisplayName("예약한 수량만큼 재고가 확보된다")
+        void reserveHoldsStock() {
+            Reservation reservation = orderService.reserve(Map.of("물", 4), Duration.ofMinutes(1));
+            assertThat(products.findNormalProduct("물").quantityValue()).isEqualTo(6);
+            Receipt receipt = orderService.confirm(reservation, false);
+            assertThat(receipt.calculateTotalQuantity()).isEqualTo(4);
+            assertThat(products.findNormalProduct("물").quantityValue()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("예약을 취소하면 재고가 돌아온다")
+        void cancelReleasesStock() {
+            Reservation reservation = orderService.reserve(Map.of("물", 4), Duration.ofMinutes(1));
+            orderService.cancel(reservation);
+            assertThat(products.findNormalProduct("물").quantityValue()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("만료된 예약은 재고를 돌려주고 확정할 수 없다")
+        void expiredReservationCannotBeConfirmed() {
+            ReservationRegistry registry = new ReservationRegistry();
+            OrderService service = new OrderService(products, promotionService, registry);
+            Reservation reservation = service.reserve(Map.of("물", 4), Duration.ZERO);
+
+            assertThat(registry.expireOverdue()).isEqualTo(1);
+            assertThat(products.findNormalProduct("물").quantityValue()).isEqualTo(10);
+            assertThatThrownBy(() -> service.confirm(reservation, false))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("주문 대기 시간이 만료되었습니다. 다시 입력해 주세요.");
+            registry.close();
+        }
+
+        @Test
+        @DisplayName("판매를 기록하지 못하면 확정을 무르고 재고를 돌려준다")
+        void failedRecordRollsBackConfirm() {
+            SalesRecorder failing = (items, receipt) -> {
+                throw new IllegalStateException("판매 기록을 저장할 수 없습니다.");
+            };
+            OrderService service = new OrderService(products, promotionService, new ReservationRegistry(), failing);
+            Reservation reservation = service.reserve(Map.of("물", 4), Duration.ofMinutes(1));
+
+            assertThatThrownBy(() -> service.confirm(reservation, false))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> service.createOrder(Map.of("물", 2), false))
+                    .isInstanceOf(IllegalStateException.class);
+            assertThat(products.findNormalProduct("물").quantityValue()).isEqualTo(10);
+            assertThat(reservation.statusValue()).isEqualTo(ReservationStatus.CANCELLED);
+        }
+
+        @Test
+        @DisplayName("잡힌 예약이 없으면 정리 스레드를 내려놓고 다음 예약 때 다시 띄운다")
+        void reaperStopsWhenIdle() throws InterruptedException {
+            ReservationRegistry registry = new ReservationRegistry(Duration.ofMillis(10));
+            OrderService service = new OrderService(products, promotionService, registry);
+            Set<Thread> before = Thread.getAllStackTraces().keySet();
+            service.cancel(service.reserve(Map.of("물", 4), Duration.ofMinutes(1)));
+            Thread reaper = startedReaper(before);
+
+            reaper.join(5_000);
+            Reservation reservation = service.reserve(Map.of("물", 4), Duration.ZERO);
+
+            assertThat(reaper.isAlive()).isFalse();
+            assertThat(awaitReleased(reservation)).isTrue();
+            assertThat(products.findNormalProduct("물").quantityValue()).isEqualTo(10);
+            registry.close();
+        }
+
+        private Thread startedReaper(Set<Thread> before) {
+            return Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().equals("reservation-reaper") && !before.contains(thread))
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        private boolean awaitReleased(Reservation reservation) throws InterruptedException {
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (reservation.isHeld() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            return !reservation.isHeld();
+        }
+    }
+
+    @Nested
+    @DisplayName("일괄 주문")
+    class BatchOrder {
+        private final List<OrderRequest> orders = List.of(
+                new OrderRequest(Map.of("콜라", 3), false),
+                new OrderRequest(Map.of("물", 2, "콜라", 7), true),
+                new OrderRequest(Map.of("없는상품", 1), true),
+                new OrderRequest(Map.of("콜라", 9, "사이다", 4), true),
+                new OrderRequest(Map.of("물", 100), false),
+                new OrderRequest(Map.of("사이다", 5), false)
+        );
+
+        @Test
+        @DisplayName("주문을 하나씩 처리한 것과 같은 영수증과 재고를 남긴다")
+        void matchesSequentialOrders() {
+            Products sequentialProducts = new Products(FileLoader.loadProducts());
+            OrderService sequential = new OrderService(sequentialProducts, promotionService);
+
+            BatchReceipt batch = orderService.createOrders(orders);
+
+            for (int i = 0; i < orders.size(); i++) {
+                assertSameOutcome(batch.outcomes().get(i), orderOne(sequential, orders.get(i)));
+            }
+            for (int i = 0; i < products.productsValue().size(); i++) {
+                assertThat(products.productsValue().get(i).quantityValue())
+                        .isEqualTo(sequentialProducts.productsValue().get(i).quantityValue());
+            }
+        }
+
+        @Test
+        @DisplayName("거절된 주문 수와 전체 결제 금액을 요약한다")
+        void summarizeBatch() {
+            BatchReceipt batch = orderService.createOrders(orders);
+
+            assertThat(batch.summary().orderCount()).isEqualTo(6);
+            assertThat(batch.summary().rejectedCount()).isEqualTo(2);
+            assertThat(batch.summary().finalAmount()).isEqualTo(batch.outcomes().stream()
+                    .filter(OrderOutcome::isAccepted)
+                    .mapToLong(outcome -> outcome.receipt().calculateFinalAmount())
+                    .sum());
+        }
+
+        @Test
+        @DisplayName("수락된 주문 사이에서 거절된 주문이 잡으려던 재고는 그대로 남는다")
+        void rejectedOrderLeavesNoStockTaken() {
+            Products stock = new Products(List.of(new Product("콜라", 1000, 10, "null"),
+                    new Product("물", 500, 5, "null"), new Product("물", 500, 5, "null")));
+            OrderService service = new OrderService(stock, new PromotionService(Map.of()));
+            Map<String, Integer> colaThenWater = new LinkedHashMap<>();
+            colaThenWater.put("콜라", 2);
+            colaThenWater.put("물", 6);
+
+            BatchReceipt batch = service.createOrders(List.of(new OrderRequest(Map.of("물", 3), false),
+                    new OrderRequest(colaThenWater, false), new OrderRequest(Map.of("콜라", 1), false)));
+
+            assertThat(batch.outcomes().stream().map(OrderOutcome::isAccepted).toList()).containsExactly(true, false, true);
+            assertThat(batch.outcomes().get(1).errorMessage())
+                    .isEqualTo("재고 수량을 초과하여 구매할 수 없습니다. 다시 입력해 주세요.");
+            assertThat(stock.productsValue().stream().map(Product::quantityValue).toList()).containsExactly(9, 2, 5);
+        }
+
+        private OrderOutcome orderOne(OrderService service, OrderRequest order) {
+            try {
+                return OrderOutcome.accepted(service.createOrder(order.items(), order.useMembership()));
+            } catch (IllegalArgumentException e) {
+                return OrderOutcome.rejected(e.getMessage());
+            }
+        }
+
+        private void assertSameOutcome(OrderOutcome actual, OrderOutcome expected) {
+            assertThat(actual.errorMessage()).isEqualTo(expected.errorMessage());
+            if (expected.isAccepted()) {
+                assertThat(actual.receipt().createOrderLines()).isEqualTo(expected.receipt().createOrderLines());
+                assertThat(actual.receipt().createGiftLines()).isEqualTo(expected.receipt().createGiftLines());
+                assertThat(actual.receipt().calculateFinalAmount()).isEqualTo(expected.receipt().calculateFinalAmount());
+            }
+        }
+    }
+
     @Test
     @DisplayName("존재하지 않는 상품 조회시 예외가 발생한다")
     void findNonExistentProduct() {
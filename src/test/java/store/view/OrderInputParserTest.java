@@ -0,0 +1,159 @@
+package store.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.order.OrderLines;
+import store.domain.product.Product;
+import store.domain.product.Products;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderInputParserTest {
+    private static final String[] NAMES = {"콜라", "물", "없는상품", " 콜라 "};
+    private static final String[] FRAGMENTS = {
+            "[", "]", ",", "-", " ", "\t", "콜라", "물", "a", "0", "1", "7", "12", "+", "2147483648", "１", "x"
+    };
+
+    private final Products products = new Products(List.of(
+            new Product("콜라", 1000, 10, "탄산2+1"),
+            new Product("물", 500, 10, "null")
+    ));
+
+    @Test
+    @DisplayName("무작위 입력에 예전 파서와 같은 주문 또는 같은 오류 메시지를 낸다")
+    void matchesSplitParser() {
+        Random random = new Random(20);
+        OrderInputParser parser = new OrderInputParser(products);
+
+        for (int round = 0; round < 200_000; round++) {
+            String input = randomInput(random);
+            assertThat(parseWith(parser, input)).isEqualTo(parseWithSplit(input));
+        }
+    }
+
+    @Test
+    @DisplayName("경계 입력에서도 예전 파서와 같다")
+    void matchesSplitParserOnEdgeCases() {
+        OrderInputParser parser = new OrderInputParser();
+        List<String> inputs = List.of("[]", "[,]", "[,,]", "[콜라-1,]", "[,콜라-1]", "[콜라-1,,물-2]", "[콜라-]",
+                "[-1]", "[콜라--1]", "[콜라-1-]", "[콜라-1-2]", "[콜[라-1]", "[콜라-[1]]", "[ 콜라 - 3 ]",
+                "[콜라-0]", "[콜라-+3]", "[콜라-2147483648]", "[콜라-1],[콜라-4]", " [콜라-1]", "[콜라-1] ", "[", "]");
+
+        inputs.forEach(input -> assertThat(parseWith(parser, input)).isEqualTo(parseWithSplit(input)));
+    }
+
+    @Test
+    @DisplayName("카탈로그에 있는 상품명은 카탈로그의 문자열을 그대로 쓴다")
+    void reusesCatalogNames() {
+        OrderLines lines = new OrderInputParser(products).parse("[콜라-2],[없는상품-1]");
+
+        assertThat(lines.nameOf(0)).isSameAs(products.findByName("콜라").orElseThrow().nameValue());
+        assertThat(lines.nameOf(1)).isEqualTo("없는상품");
+    }
+
+    private String randomInput(Random random) {
+        if (random.nextBoolean()) {
+            return mutate(randomOrder(random), random);
+        }
+        return randomNoise(random);
+    }
+
+    private String randomOrder(Random random) {
+        StringBuilder input = new StringBuilder("[");
+        int itemCount = random.nextInt(1, 4);
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                input.append("],[");
+            }
+            input.append(NAMES[random.nextInt(NAMES.length)]).append('-').append(random.nextInt(0, 20));
+        }
+        return input.append(']').toString();
+    }
+
+    private String mutate(String order, Random random) {
+        StringBuilder input = new StringBuilder(order);
+        int mutationCount = random.nextInt(3);
+        for (int i = 0; i < mutationCount; i++) {
+            input.insert(random.nextInt(input.length() + 1), FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return input.toString();
+    }
+
+    private String randomNoise(Random random) {
+        StringBuilder input = new StringBuilder();
+        if (random.nextInt(4) > 0) {
+            input.append('[');
+        }
+        int length = random.nextInt(12);
+        for (int i = 0; i < length; i++) {
+            input.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        if (random.nextInt(4) > 0) {
+            input.append(']');
+        }
+        return input.toString();
+    }
+
+    private String parseWith(OrderInputParser parser, String input) {
+        try {
+            return describe(parser.parse(input));
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String describe(OrderLines lines) {
+        List<String> items = new ArrayList<>();
+        for (int line = 0; line < lines.size(); line++) {
+            items.add(lines.nameOf(line) + "=" + lines.quantityOf(line));
+        }
+        return items.toString();
+    }
+
+    // 커서 파서를 도입하기 전의 replace/split 기반 파서
+    private String parseWithSplit(String input) {
+        try {
+            return describe(splitOrderInput(input));
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    private OrderLines splitOrderInput(String input) {
+        if (input == null || input.trim().isEmpty() || !input.startsWith("[") || !input.endsWith("]")) {
+            throw new IllegalArgumentException("잘못된 입력입니다. 다시 입력해 주세요.");
+        }
+        String[] orderItems = input.replace("[", "").replace("]", "").split(",");
+        if (orderItems.length == 0) {
+            throw new IllegalArgumentException("잘못된 입력입니다. 다시 입력해 주세요.");
+        }
+        OrderLines.Builder orders = new OrderLines.Builder();
+        for (String item : orderItems) {
+            String[] parts = item.split("-");
+            splitOrderItem(orders, parts);
+        }
+        return orders.build();
+    }
+
+    private void splitOrderItem(OrderLines.Builder orders, String[] parts) {
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("올바르지 않은 형식으로 입력했습니다. 다시 입력해 주세요.");
+        }
+        if (parts[0].trim().isEmpty()) {
+            throw new IllegalArgumentException("잘못된 입력입니다. 다시 입력해 주세요.");
+        }
+        try {
+            int quantity = Integer.parseInt(parts[1].trim());
+            if (quantity <= 0) {
+                throw new IllegalArgumentException("올바르지 않은 형식으로 입력했습니다. 다시 입력해 주세요.");
+            }
+            orders.add(parts[0].trim(), quantity);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("올바르지 않은 형식으로 입력했습니다. 다시 입력해 주세요.");
+        }
+    }
+}
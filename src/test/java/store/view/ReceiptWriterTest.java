@@ -0,0 +1,96 @@
+package store.view;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import store.domain.receipt.Receipt;
+import store.domain.receipt.ReceiptItem;
+import store.service.PromotionService;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptWriterTest {
+    private final PromotionService promotionService = new PromotionService(Map.of());
+
+    @Test
+    @DisplayName("영수증 출력이 printf 로 찍던 출력과 바이트 단위로 같다")
+    void matchesFormattedOutput() {
+        Random random = new Random(3);
+        for (int round = 0; round < 300; round++) {
+            Receipt receipt = createReceipt(random);
+
+            assertThat(Arrays.equals(writeReceipt(receipt), printWithFormat(receipt))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 출력 뷰로 여러 영수증을 이어 찍어도 앞 영수증 내용이 남지 않는다")
+    void reuseBufferAcrossReceipts() {
+        Receipt large = createReceipt(new Random(5), 40);
+        Receipt small = createReceipt(new Random(6), 1);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        OutputView outputView = new OutputView(new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        outputView.printReceipt(large);
+        output.reset();
+        outputView.printReceipt(small);
+
+        assertThat(Arrays.equals(output.toByteArray(), printWithFormat(small))).isTrue();
+    }
+
+    private Receipt createReceipt(Random random) {
+        return createReceipt(random, random.nextInt(1, 12));
+    }
+
+    private Receipt createReceipt(Random random, int itemCount) {
+        List<ReceiptItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new ReceiptItem("상품" + i, random.nextInt(1, 200), random.nextInt(100, 2_000_000),
+                    random.nextInt(0, 3)));
+        }
+        return new Receipt(items, random.nextInt(0, 100_000), random.nextBoolean(), promotionService);
+    }
+
+    private byte[] writeReceipt(Receipt receipt) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new OutputView(new PrintStream(output, true, StandardCharsets.UTF_8)).printReceipt(receipt);
+        return output.toByteArray();
+    }
+
+    // 버퍼 출력으로 바꾸기 전의 OutputView.printReceipt
+    private byte[] printWithFormat(Receipt receipt) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(output, true, StandardCharsets.UTF_8);
+        out.println();
+        out.println("==============W 편의점================");
+        out.println("상품명\t\t\t수량\t\t금액");
+        receipt.itemsValue().forEach(item -> out.println(String.format("%s\t\t\t%d\t\t%,d",
+                item.nameValue(), item.quantityValue(), item.calculateAmount())));
+        printGiftsWithFormat(receipt, out);
+        out.println("====================================");
+        out.printf("총구매액\t\t\t%d\t\t%,d\n", receipt.calculateTotalQuantity(), receipt.calculateTotalAmount());
+        out.printf("행사할인\t\t\t\t\t-%,d\n", receipt.promotionDiscountValue());
+        out.printf("멤버십할인\t\t\t\t-%,d\n", receipt.calculateMembershipDiscount());
+        out.printf("내실돈\t\t\t\t\t %,d\n", receipt.calculateFinalAmount());
+        return output.toByteArray();
+    }
+
+    private void printGiftsWithFormat(Receipt receipt, PrintStream out) {
+        List<ReceiptItem> gifts = receipt.itemsValue().stream()
+                .filter(ReceiptItem::hasGift)
+                .toList();
+        if (gifts.isEmpty()) {
+            return;
+        }
+        out.println("=============증     정===============");
+        gifts.forEach(item -> out.println(item.nameValue() + "\t\t\t" + item.giftQuantityValue()));
+    }
+}